@@ -0,0 +1,55 @@
+package io.github.mjyoun.core.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * benchmark 실행 객체. <br>
+ * JMH 명령행 옵션을 그대로 사용하며, 실행 시간과 함께 GC 사용량(할당량, GC 횟수)을 항상 측정한다.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar ExcelArrayBenchmark -p rows=10000
+ * java -jar target/benchmarks.jar ExcelBeanBenchmark -p rows=10000
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * @param args
+     *            JMH 명령행 옵션
+     * @throws CommandLineOptionException
+     *             잘못된 옵션
+     * @throws RunnerException
+     *             benchmark 실행 실패
+     * @throws IOException
+     *             도움말, 목록 출력 실패
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats()) {
+            // 도움말, 목록 출력은 JMH 기본 실행 객체에 맡긴다.
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        Options options = new OptionsBuilder() //
+                .parent(commandLine) //
+                .addProfiler(GCProfiler.class) //
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.github.mjyoun.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mjyoun.core.utils.CollectionUtils;
+
+/**
+ * {@link CollectionUtils} 성능 측정
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionUtilsBenchmark {
+
+    /**
+     * primitive 배열 변환 데이터
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    @State(Scope.Benchmark)
+    public static class IntArrayState {
+
+        /** 데이터 개수 */
+        @Param({ "10", "1000", "100000" })
+        private int size;
+
+        /** 변환할 배열 */
+        private int[] source;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.source = new int[this.size];
+
+            for (int index = 0; index < this.size; index++) {
+                this.source[index] = index;
+            }
+        }
+
+    }
+
+    /**
+     * 중복 제외 추가 데이터. 중복 확인에 {@link List#contains(Object)}를 사용하여 데이터 개수의 제곱에 비례하므로, 배열 변환보다 작은 개수로 측정한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    @State(Scope.Benchmark)
+    public static class ListState {
+
+        /** 데이터 개수 */
+        @Param({ "10", "100", "1000", "10000" })
+        private int size;
+
+        /** 중복 확인 기준 목록 */
+        private List<Integer> base;
+        /** 추가할 목록. 절반은 기준 목록과 중복된다. */
+        private List<Integer> toAdd;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.base = new ArrayList<>(this.size);
+            this.toAdd = new ArrayList<>(this.size);
+
+            for (int index = 0; index < this.size; index++) {
+                this.base.add(index * 2);
+                this.toAdd.add(index);
+            }
+        }
+
+    }
+
+    @Benchmark
+    public List<Integer> addAllIntPrimitiveType(IntArrayState state) {
+        return CollectionUtils.addAllIntPrimitiveType(state.source);
+    }
+
+    @Benchmark
+    public List<Integer> addAllIntPrimitiveTypeToList(IntArrayState state) {
+        return CollectionUtils.addAllIntPrimitiveType(new ArrayList<>(state.size), state.source);
+    }
+
+    @Benchmark
+    public List<Integer> addAllNotExist(ListState state) {
+        // 측정마다 기준 목록이 늘어나지 않도록 복사하여 사용한다.
+        return CollectionUtils.addAllNotExist(new ArrayList<>(state.base), state.toAdd, List::contains);
+    }
+
+}
@@ -0,0 +1,49 @@
+package io.github.mjyoun.core.benchmark;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 미리 만든 데이터를 지정한 개수만큼 반복하는 iterator. <br>
+ * 데이터 생성 비용과 heap 사용량이 측정값에 섞이지 않도록 사용한다.
+ *
+ * @param <T>
+ *            데이터 클래스
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class CyclicIterator<T> implements Iterator<T> {
+
+    /** 반복할 데이터 */
+    private final T[] pool;
+    /** 반환할 데이터 개수 */
+    private final int size;
+    /** 반환한 데이터 개수 */
+    private int index;
+
+    /**
+     * @param pool
+     *            반복할 데이터
+     * @param size
+     *            반환할 데이터 개수
+     */
+    CyclicIterator(T[] pool, int size) {
+        this.pool = pool;
+        this.size = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.index < this.size;
+    }
+
+    @Override
+    public T next() {
+        if (this.index >= this.size) {
+            throw new NoSuchElementException();
+        }
+
+        return this.pool[this.index++ % this.pool.length];
+    }
+
+}
@@ -0,0 +1,135 @@
+package io.github.mjyoun.core.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mjyoun.core.utils.excel.ExcelOptions;
+import io.github.mjyoun.core.utils.excel.ExcelUtils;
+
+/**
+ * 헤더와 배열 데이터로 {@link ExcelUtils#create} 하는 성능 측정. <br>
+ * 미리 만든 {@value #POOL_SIZE}개의 row를 반복하여 사용하며, 생성한 파일은 버린다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ExcelArrayBenchmark {
+
+    /** 미리 만들어 두는 row 개수 */
+    private static final int POOL_SIZE = 1024;
+
+    /** 기록할 데이터 row 개수 */
+    @Param({ "10000", "100000", "1000000" })
+    private int rows;
+
+    /** 컬럼 개수 */
+    @Param({ "4", "16" })
+    private int columns;
+
+    /** 컬럼 데이터 타입 */
+    @Param({ "TEXT", "NUMBER", "DATE", "MIXED" })
+    private ColumnType columnType;
+
+    /** 숫자, 날짜 데이터를 엑셀의 숫자, 날짜 cell로 기록할지 여부 */
+    @Param({ "false", "true" })
+    private boolean typedCells;
+
+    /** 엑셀 생성 설정 */
+    private ExcelOptions options;
+    /** 헤더 */
+    private String[] headers;
+    /** 반복할 데이터 */
+    private Object[][] pool;
+
+    /**
+     * 컬럼 데이터 타입
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public enum ColumnType {
+
+        /** 문자열 */
+        TEXT,
+        /** 숫자 */
+        NUMBER,
+        /** 날짜 */
+        DATE,
+        /** 문자열, 숫자, 날짜를 번갈아 사용 */
+        MIXED;
+
+        /**
+         * @param rowIndex
+         *            row 순서
+         * @param columnIndex
+         *            컬럼 순서
+         * @return 컬럼 데이터
+         */
+        Object value(int rowIndex, int columnIndex) {
+            switch (this) {
+                case TEXT:
+                    return "텍스트-" + rowIndex + "-" + columnIndex;
+                case NUMBER:
+                    return rowIndex * 31L + columnIndex;
+                case DATE:
+                    return LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(rowIndex * 7L + columnIndex);
+                default:
+                    return ColumnType.values()[columnIndex % 3].value(rowIndex, columnIndex);
+            }
+        }
+
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.options = ExcelOptions.builder() //
+                .typedCells(this.typedCells) //
+                .build();
+
+        this.headers = new String[this.columns];
+
+        for (int columnIndex = 0; columnIndex < this.columns; columnIndex++) {
+            this.headers[columnIndex] = "컬럼" + columnIndex;
+        }
+
+        this.pool = new Object[POOL_SIZE][];
+
+        for (int rowIndex = 0; rowIndex < POOL_SIZE; rowIndex++) {
+            Object[] row = new Object[this.columns];
+
+            for (int columnIndex = 0; columnIndex < this.columns; columnIndex++) {
+                row[columnIndex] = this.columnType.value(rowIndex, columnIndex);
+            }
+
+            this.pool[rowIndex] = row;
+        }
+    }
+
+    @Benchmark
+    public void create() throws IOException {
+        ExcelUtils.create(this.headers, new CyclicIterator<>(this.pool, this.rows), "benchmark",
+                OutputStream.nullOutputStream(), this.options);
+    }
+
+}
@@ -0,0 +1,192 @@
+package io.github.mjyoun.core.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mjyoun.core.utils.excel.ExcelOptions;
+import io.github.mjyoun.core.utils.excel.ExcelUtils;
+import io.github.mjyoun.core.utils.excel.annotation.ExcelColumn;
+
+/**
+ * {@link ExcelColumn} 클래스 데이터로 {@link ExcelUtils#create} 하는 성능 측정. <br>
+ * 미리 만든 {@value #POOL_SIZE}개의 객체를 반복하여 사용하며, 생성한 파일은 버린다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ExcelBeanBenchmark {
+
+    /** 미리 만들어 두는 객체 개수 */
+    private static final int POOL_SIZE = 1024;
+
+    /** 기록할 데이터 row 개수 */
+    @Param({ "10000", "100000", "1000000" })
+    private int rows;
+
+    /** 숫자, 날짜 데이터를 엑셀의 숫자, 날짜 cell로 기록할지 여부 */
+    @Param({ "false", "true" })
+    private boolean typedCells;
+
+    /** 데이터 변환 병렬 처리 개수 */
+    @Param({ "1", "4" })
+    private int parallelism;
+
+    /** 엑셀 생성 설정 */
+    private ExcelOptions options;
+    /** 컬럼이 적은 데이터 */
+    private NarrowRow[] narrowPool;
+    /** 컬럼이 많은 데이터 */
+    private WideRow[] widePool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.options = ExcelOptions.builder() //
+                .typedCells(this.typedCells) //
+                .parallelism(this.parallelism) //
+                .build();
+
+        this.narrowPool = new NarrowRow[POOL_SIZE];
+        this.widePool = new WideRow[POOL_SIZE];
+
+        for (int index = 0; index < POOL_SIZE; index++) {
+            this.narrowPool[index] = new NarrowRow(index);
+            this.widePool[index] = new WideRow(index);
+        }
+    }
+
+    @Benchmark
+    public void narrow() throws IOException {
+        ExcelUtils.create(new CyclicIterator<>(this.narrowPool, this.rows), NarrowRow.class,
+                OutputStream.nullOutputStream(), this.options);
+    }
+
+    @Benchmark
+    public void wide() throws IOException {
+        ExcelUtils.create(new CyclicIterator<>(this.widePool, this.rows), WideRow.class,
+                OutputStream.nullOutputStream(), this.options);
+    }
+
+    /**
+     * 컬럼이 4개인 데이터
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static class NarrowRow {
+
+        @ExcelColumn("이름")
+        private String name;
+        @ExcelColumn("수량")
+        private int quantity;
+        @ExcelColumn("금액")
+        private BigDecimal amount;
+        @ExcelColumn("등록일")
+        private LocalDate createdDate;
+
+        NarrowRow(int index) {
+            this.name = "상품-" + index;
+            this.quantity = index;
+            this.amount = BigDecimal.valueOf(index * 1000L + 50, 2);
+            this.createdDate = LocalDate.of(2026, 1, 1).plusDays(index);
+        }
+
+    }
+
+    /**
+     * 컬럼이 16개인 데이터
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static class WideRow {
+
+        @ExcelColumn("코드")
+        private String code;
+        @ExcelColumn("이름")
+        private String name;
+        @ExcelColumn("분류")
+        private String category;
+        @ExcelColumn("설명")
+        private String description;
+        @ExcelColumn("수량")
+        private int quantity;
+        @ExcelColumn("재고")
+        private long stock;
+        @ExcelColumn("단가")
+        private double price;
+        @ExcelColumn("금액")
+        private BigDecimal amount;
+        @ExcelColumn("할인율")
+        private Double discount;
+        @ExcelColumn("판매 여부")
+        private boolean onSale;
+        @ExcelColumn("등록일")
+        private LocalDate createdDate;
+        @ExcelColumn("수정일시")
+        private LocalDateTime updatedAt;
+        @ExcelColumn("담당자")
+        private String manager;
+        @ExcelColumn("순번")
+        private Integer sequence;
+        @ExcelColumn("비고")
+        private String note;
+        @ExcelColumn("상태")
+        private Status status;
+
+        WideRow(int index) {
+            this.code = "P" + index;
+            this.name = "상품-" + index;
+            this.category = "분류-" + (index % 10);
+            this.description = "설명 " + index + " 입니다.";
+            this.quantity = index;
+            this.stock = index * 10L;
+            this.price = index * 1.5;
+            this.amount = BigDecimal.valueOf(index * 1000L + 50, 2);
+            this.discount = index % 3 == 0 ? null : index % 100 / 100.0;
+            this.onSale = index % 2 == 0;
+            this.createdDate = LocalDate.of(2026, 1, 1).plusDays(index);
+            this.updatedAt = LocalDateTime.of(2026, 1, 1, 9, 0).plusMinutes(index);
+            this.manager = "담당자" + (index % 7);
+            this.sequence = index;
+            this.note = index % 5 == 0 ? "" : "비고";
+            this.status = Status.values()[index % Status.values().length];
+        }
+
+    }
+
+    /**
+     * 상태
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public enum Status {
+
+        READY, SALE, SOLD_OUT;
+
+    }
+
+}
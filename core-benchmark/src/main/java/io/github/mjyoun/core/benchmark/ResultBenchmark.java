@@ -0,0 +1,56 @@
+package io.github.mjyoun.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mjyoun.core.data.Result;
+
+/**
+ * {@link Result} 생성 성능 측정
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+
+    /** 메시지에 포함할 값 */
+    private String id = "user-0001";
+    /** 메시지에 포함할 숫자 */
+    private long count = 1234567L;
+
+    @Benchmark
+    public Result<Object> errorWithoutArgs() {
+        return Result.error("데이터를 찾을 수 없습니다.");
+    }
+
+    @Benchmark
+    public Result<Object> errorWithArg() {
+        return Result.error("데이터를 찾을 수 없습니다. [id: {0}]", this.id);
+    }
+
+    @Benchmark
+    public Result<Object> errorWithArgs() {
+        return Result.error("처리 중 오류가 발생했습니다. [id: {0}, count: {1}, retry: {2}]", this.id, this.count, 3);
+    }
+
+    @Benchmark
+    public Result<String> ok() {
+        return Result.ok(this.id);
+    }
+
+}
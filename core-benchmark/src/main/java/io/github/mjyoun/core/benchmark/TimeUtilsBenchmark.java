@@ -0,0 +1,55 @@
+package io.github.mjyoun.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mjyoun.core.utils.TimeUtils;
+
+/**
+ * {@link TimeUtils} 성능 측정
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeUtilsBenchmark {
+
+    /** 출력할 시간 (nanosecond). 1.2초, 1시간 23분, 3일 */
+    @Param({ "1234567890", "4980123456789", "259200000000000" })
+    private long nano;
+
+    /** 최고 표시 단위 */
+    @Param({ "HOURS", "DAYS" })
+    private TimeUnit maxUnit;
+
+    @Benchmark
+    public String printPrettyNano() {
+        return TimeUtils.printPrettyNano(this.nano);
+    }
+
+    @Benchmark
+    public String printPrettyNanoWithUnit() {
+        return TimeUtils.printPrettyNano(this.nano, this.maxUnit, "dd hh:MM:ss.SSS");
+    }
+
+    @Benchmark
+    public Long convertTime() {
+        return TimeUtils.convertTime(this.nano, TimeUnit.NANOSECONDS, this.maxUnit);
+    }
+
+}
@@ -0,0 +1,405 @@
+package io.github.mjyoun.core.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+
+/**
+ * {@code @ExcelSheet}, {@code @ExcelColumn} 클래스마다 {@code ExcelRowWriter} 구현 클래스를 생성하는 annotation processor. <br>
+ * 생성된 클래스는 "클래스의 binary 이름 + _ExcelRowWriter" 이름으로 같은 패키지에 생성되며, 런타임에 reflection 없이 필드 값을 조회한다. <br>
+ * reflection과 같은 결과를 내도록 필드를 직접 조회하므로, 지원하지 않는 클래스(private 필드가 있는 클래스, private 클래스, 내부 클래스, generic 클래스,
+ * record, 상위 클래스가 있는 클래스, getter 컬럼이나 하위 객체 펼침 컬럼이 있는 클래스)는 생성하지 않고 reflection을 사용하도록 둔다. <br>
+ * 생성된 클래스는 런타임에 이름으로 찾아 기본 생성자로 생성하므로, native image에서는 생성된 클래스를 reflection 설정에 등록해야 사용된다. <br>
+ * 배포하지 않는 module이므로, core-processor 디렉토리에서 {@code mvn install}로 설치한 후 사용한다.
+ *
+ * <pre>
+ * &lt;annotationProcessorPaths&gt;
+ *     &lt;path&gt;
+ *         &lt;groupId&gt;io.github.mj-youn&lt;/groupId&gt;
+ *         &lt;artifactId&gt;core-processor&lt;/artifactId&gt;
+ *         &lt;version&gt;${core.version}&lt;/version&gt;
+ *     &lt;/path&gt;
+ * &lt;/annotationProcessorPaths&gt;
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+@SupportedAnnotationTypes({ ExcelRowWriterProcessor.EXCEL_SHEET, ExcelRowWriterProcessor.EXCEL_COLUMN })
+public class ExcelRowWriterProcessor extends AbstractProcessor {
+
+    /** 시트 annotation 이름 */
+    static final String EXCEL_SHEET = "io.github.mjyoun.core.utils.excel.annotation.ExcelSheet";
+    /** 컬럼 annotation 이름 */
+    static final String EXCEL_COLUMN = "io.github.mjyoun.core.utils.excel.annotation.ExcelColumn";
+    /** 생성할 클래스가 구현할 interface 이름 */
+    static final String ROW_WRITER = "io.github.mjyoun.core.utils.excel.ExcelRowWriter";
+    /** 생성되는 클래스 이름의 접미사 */
+    static final String SUFFIX = "_ExcelRowWriter";
+    /** 생성 코드 표시 annotation 이름 */
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element type = element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.METHOD
+                        ? element.getEnclosingElement()
+                        : element;
+
+                if (type.getKind() == ElementKind.CLASS) {
+                    types.add((TypeElement) type);
+                }
+            }
+        }
+
+        for (TypeElement type : types) {
+            try {
+                this.generate(type);
+            } catch (IOException e) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        MessageFormat.format("row writer를 생성할 수 없습니다. [{0}]", e.getMessage()), type);
+            }
+        }
+
+        // 다른 processor도 같은 annotation을 처리할 수 있도록 claim하지 않는다.
+        return false;
+    }
+
+    /**
+     * 클래스 하나의 row writer 생성
+     *
+     * @param type
+     *            데이터 클래스
+     * @throws IOException
+     *             소스 파일 생성 실패
+     */
+    private void generate(TypeElement type) throws IOException {
+        String unsupported = this.checkSupported(type);
+
+        if (unsupported != null) {
+            this.note(type, unsupported);
+            return;
+        }
+
+        // 컬럼 정보. reflection과 같이 선언 순서를 유지한다.
+        List<Column> columns = new ArrayList<>();
+
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() != ElementKind.FIELD || element.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            VariableElement field = (VariableElement) element;
+            AnnotationMirror excelColumn = findAnnotation(field, EXCEL_COLUMN);
+
+            if (excelColumn != null && Boolean.TRUE.equals(this.annotationValue(excelColumn, "ignore"))) {
+                continue;
+            }
+
+            if (excelColumn != null && Boolean.TRUE.equals(this.annotationValue(excelColumn, "nested"))) {
+                this.note(type, MessageFormat.format("하위 객체 펼침 컬럼은 지원하지 않습니다. [field: {0}]", field.getSimpleName()));
+                return;
+            }
+
+            // reflection은 getter가 있어도 필드 값을 조회하므로, getter로 대신 조회하면 결과가 달라질 수 있다.
+            if (field.getModifiers().contains(Modifier.PRIVATE)) {
+                this.note(type, MessageFormat.format("private 필드는 지원하지 않습니다. [field: {0}]", field.getSimpleName()));
+                return;
+            }
+
+            String accessor = "content." + field.getSimpleName();
+            String header = field.getSimpleName().toString();
+            String styleName = null;
+            int width = 0;
+            boolean lowCardinality = false;
+
+            if (excelColumn != null) {
+                header = nonBlank(this.annotationValue(excelColumn, "value"), header);
+                styleName = nonBlank(this.annotationValue(excelColumn, "style"), null);
+                Object widthValue = this.annotationValue(excelColumn, "width");
+                width = widthValue instanceof Integer ? (Integer) widthValue : 0;
+                lowCardinality = Boolean.TRUE.equals(this.annotationValue(excelColumn, "lowCardinality"));
+            }
+
+            String columnType = this.processingEnv.getTypeUtils().erasure(field.asType()).toString();
+            columns.add(new Column(header, styleName, width, lowCardinality, columnType, accessor));
+        }
+
+        AnnotationMirror excelSheet = findAnnotation(type, EXCEL_SHEET);
+        String sheetName = excelSheet == null ? null : nonBlank(this.annotationValue(excelSheet, "value"), null);
+
+        this.write(type, sheetName, columns);
+    }
+
+    /**
+     * 생성할 수 있는 클래스인지 확인
+     *
+     * @param type
+     *            데이터 클래스
+     * @return 생성할 수 없는 이유. 생성할 수 있을 경우 null
+     */
+    private String checkSupported(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic 클래스는 지원하지 않습니다.";
+        }
+
+        if (!type.getSuperclass().toString().equals(Object.class.getName())) {
+            return "상위 클래스의 필드를 포함하는 클래스는 지원하지 않습니다.";
+        }
+
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.METHOD && findAnnotation(element, EXCEL_COLUMN) != null) {
+                return "getter 컬럼은 지원하지 않습니다.";
+            }
+        }
+
+        for (Element element = type; element.getKind() != ElementKind.PACKAGE; element = element.getEnclosingElement()) {
+            if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+                return "지역 클래스는 지원하지 않습니다.";
+            }
+
+            TypeElement enclosing = (TypeElement) element;
+
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private 클래스는 지원하지 않습니다.";
+            }
+
+            if (enclosing.getNestingKind() == NestingKind.MEMBER && !enclosing.getModifiers().contains(Modifier.STATIC)
+                    && enclosing.getEnclosingElement().getKind() == ElementKind.CLASS) {
+                return "static이 아닌 내부 클래스는 지원하지 않습니다.";
+            }
+
+            if (enclosing.getNestingKind() == NestingKind.LOCAL || enclosing.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "지역 클래스는 지원하지 않습니다.";
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * row writer 소스 파일 기록
+     *
+     * @param type
+     *            데이터 클래스
+     * @param sheetName
+     *            시트 이름. nullable
+     * @param columns
+     *            컬럼 정보
+     * @throws IOException
+     *             소스 파일 생성 실패
+     */
+    private void write(TypeElement type, String sheetName, List<Column> columns) throws IOException {
+        PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+        String className = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        if (this.processingEnv.getElementUtils().getTypeElement(GENERATED) != null) {
+            source.append("@").append(GENERATED).append("(\"").append(ExcelRowWriterProcessor.class.getName()).append("\")\n");
+        }
+
+        source.append("public final class ").append(className).append(" implements ").append(ROW_WRITER).append('<')
+                .append(typeName).append("> {\n\n");
+
+        // 헤더 정보
+        source.append("    @Override\n    public String getSheetName() {\n        return ").append(literal(sheetName))
+                .append(";\n    }\n\n");
+        source.append("    @Override\n    public String[] getHeaders() {\n        return new String[] {");
+        for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+            source.append(columnIndex == 0 ? " " : ", ").append(literal(columns.get(columnIndex).header));
+        }
+        source.append(" };\n    }\n\n");
+        source.append("    @Override\n    public String[] getStyleNames() {\n        return new String[] {");
+        for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+            source.append(columnIndex == 0 ? " " : ", ").append(literal(columns.get(columnIndex).styleName));
+        }
+        source.append(" };\n    }\n\n");
+        source.append("    @Override\n    public int[] getWidths() {\n        return new int[] {");
+        for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+            source.append(columnIndex == 0 ? " " : ", ").append(columns.get(columnIndex).width);
+        }
+        source.append(" };\n    }\n\n");
+        // 지정한 컬럼이 없을 경우 기본 구현(null)을 사용한다.
+        boolean anyLowCardinality = false;
+        for (Column column : columns) {
+            anyLowCardinality |= column.lowCardinality;
+        }
+        if (anyLowCardinality) {
+            source.append("    @Override\n    public boolean[] getLowCardinality() {\n        return new boolean[] {");
+            for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+                source.append(columnIndex == 0 ? " " : ", ").append(columns.get(columnIndex).lowCardinality);
+            }
+            source.append(" };\n    }\n\n");
+        }
+        source.append("    @Override\n    public Class<?>[] getColumnTypes() {\n        return new Class<?>[] {");
+        for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+            source.append(columnIndex == 0 ? " " : ", ").append(columns.get(columnIndex).type).append(".class");
+        }
+        source.append(" };\n    }\n\n");
+
+        // 데이터 추출
+        source.append("    @Override\n    public void write(").append(typeName).append(" content, Object[] row) {\n");
+        for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+            source.append("        row[").append(columnIndex).append("] = ").append(columns.get(columnIndex).accessor)
+                    .append(";\n");
+        }
+        source.append("    }\n\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * 생성하지 않는 이유 출력
+     */
+    private void note(TypeElement type, String reason) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                MessageFormat.format("row writer를 생성하지 않고 reflection을 사용합니다. {0}", reason), type);
+    }
+
+    /**
+     * 이름으로 annotation 조회
+     *
+     * @param element
+     *            annotation이 선언된 요소
+     * @param name
+     *            annotation 클래스 이름
+     * @return annotation 정보. 없을 경우 null
+     */
+    private static AnnotationMirror findAnnotation(Element element, String name) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+                return mirror;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * annotation 속성 값 조회. 선언하지 않은 속성은 기본값을 반환한다.
+     *
+     * @param mirror
+     *            annotation 정보
+     * @param name
+     *            속성 이름
+     * @return 속성 값. 없는 속성일 경우 null
+     */
+    private Object annotationValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.processingEnv.getElementUtils()
+                .getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return 공백이 아닌 문자열일 경우 해당 값, 아닐 경우 기본값
+     */
+    private static String nonBlank(Object value, String defaultValue) {
+        return value instanceof String && ((String) value).trim().length() != 0 ? (String) value : defaultValue;
+    }
+
+    /**
+     * 문자열을 java 문자열 literal로 변환. ASCII가 아닌 문자는 unicode escape로 변환하여, 사용하는 프로젝트의 소스 인코딩과 관계없이 컴파일되도록 한다.
+     *
+     * @param value
+     *            문자열. nullable
+     * @return 문자열 literal. null일 경우 "null"
+     */
+    private static String literal(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+
+        for (int charIndex = 0; charIndex < value.length(); charIndex++) {
+            char ch = value.charAt(charIndex);
+
+            if (ch == '"' || ch == '\\') {
+                literal.append('\\').append(ch);
+            } else if (ch < 0x20 || ch > 0x7E) {
+                literal.append(String.format("\\u%04x", (int) ch));
+            } else {
+                literal.append(ch);
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+
+    /**
+     * 생성할 컬럼 정보
+     */
+    private static final class Column {
+
+        /** 헤더 이름 */
+        private final String header;
+        /** 사용자 정의 style 이름. nullable */
+        private final String styleName;
+        /** 지정 width (글자 수) */
+        private final int width;
+        /** 값의 종류가 적은 컬럼 여부 */
+        private final boolean lowCardinality;
+        /** 선언된 타입의 erasure 이름 */
+        private final String type;
+        /** 값 조회 코드 */
+        private final String accessor;
+
+        private Column(String header, String styleName, int width, boolean lowCardinality, String type,
+                String accessor) {
+            this.header = header;
+            this.styleName = styleName;
+            this.width = width;
+            this.lowCardinality = lowCardinality;
+            this.type = type;
+            this.accessor = accessor;
+        }
+
+    }
+
+}
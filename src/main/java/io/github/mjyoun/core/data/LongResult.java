@@ -0,0 +1,320 @@
+package io.github.mjyoun.core.data;
+
+import java.sql.Statement;
+import java.util.function.LongPredicate;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * long 데이터를 갖는 결과 객체. 수정/삭제 건수가 int 범위를 넘을 수 있을 때 사용한다. <br>
+ * 데이터를 boxing하지 않고, 개수 확인도 primitive 비교 함수로 처리한다. 실패 메시지는 처음 조회할 때 변환한다. <br>
+ * JDBC batch 실행 결과(long[])를 한 번에 확인하는 함수를 함께 제공한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public final class LongResult {
+
+    /** 확인 실패 메시지 */
+    private static final String UNEXPECTED_MESSAGE = "실행 결과가 예상 값과 다릅니다. [result: {0}]";
+    /** batch 확인 실패 메시지 */
+    private static final String UNEXPECTED_BATCH_MESSAGE = "실행 결과가 예상 값과 다릅니다. [index: {0}, result: {1}]";
+
+    /** 성공시 출력하는 결과 데이터 */
+    private final long data;
+    /** 실패/성공 여부 */
+    private final boolean result;
+    /** 실패시 출력하는 메시지 정보 */
+    private String message;
+    /** 아직 변환하지 않은 실패 메시지. 변환했거나 없을 경우 null */
+    private ResultMessage deferredMessage;
+
+    private LongResult(long data, String message, ResultMessage deferredMessage, boolean result) {
+        this.data = data;
+        this.message = message;
+        this.deferredMessage = deferredMessage;
+        this.result = result;
+    }
+
+    /**
+     * 성공 상태를 생성하는 메소드
+     *
+     * @param data
+     *            성공한 데이터 값
+     * @return 성공 상태
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static LongResult ok(long data) {
+        return new LongResult(data, null, null, true);
+    }
+
+    /**
+     * 실패 상태를 생성하는 메소드. 메시지는 {@link #getMessage()}로 처음 조회할 때 변환한다.
+     *
+     * @param msg
+     *            실패 메시지
+     * @param args
+     *            실패 메시지에 포함될 argument 목록. <br>
+     *            메시지 상에서 {0}, {1}, ... 위치에 맵핑 됨
+     * @return 실패 상태
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static LongResult error(@NotNull String msg, Object... args) {
+        return new LongResult(0, null, new ResultMessage(msg, args), false);
+    }
+
+    public long getData() {
+        return data;
+    }
+
+    public boolean isResult() {
+        return result;
+    }
+
+    /**
+     * 실패 메시지 조회. {@link #error(String, Object...)}로 생성한 경우 처음 조회할 때 메시지를 변환한다.
+     *
+     * @return 실패 메시지
+     */
+    public String getMessage() {
+        ResultMessage deferred = this.deferredMessage;
+
+        if (deferred != null) {
+            String formatted = deferred.format();
+
+            this.message = formatted;
+            this.deferredMessage = null;
+
+            return formatted;
+        }
+
+        return message;
+    }
+
+    /**
+     * {@link Result}로 변환
+     *
+     * @return 같은 데이터, 메시지를 갖는 {@link Result}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public Result<Long> toResult() {
+        return this.result ? Result.ok(this.data) : new Result<>(null, this.getMessage(), false);
+    }
+
+    @Override
+    public String toString() {
+        return "LongResult{" +
+                "data=" + data +
+                ", message='" + this.getMessage() + '\'' +
+                ", result=" + result +
+                '}';
+    }
+
+    /**
+     * 결과 데이터가 1인지 확인하는 함수
+     *
+     * @return 결과 데이터가 1이면 true, 아닐 경우 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public Result<Boolean> isOne() {
+        return this.check(this.data == 1);
+    }
+
+    /**
+     * 결과 데이터가 1이상인지 확인하는 함수
+     *
+     * @return 결과 데이터가 1이상이면 true, 아닐 경우 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public Result<Boolean> isOneMore() {
+        return this.check(this.data > 0);
+    }
+
+    /**
+     * 결과 데이터가 0이상인지 확인하는 함수
+     *
+     * @return 결과 데이터가 0이상이면 true, 아닐 경우 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public Result<Boolean> isZeroMore() {
+        return this.check(this.data > -1);
+    }
+
+    /**
+     * 결과 데이터가 원하는 값과 동일한지 확인하는 함수
+     *
+     * @param count
+     *            결과 데이터 비교 값
+     * @return 비교 값과 결과 데이터가 같을 경우 true, 아닐 경우 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public Result<Boolean> isEqualCount(long count) {
+        return this.check(this.data == count);
+    }
+
+    /**
+     * 결과 데이터를 비교 함수로 확인하는 함수
+     *
+     * @param func
+     *            결과 비교 함수
+     * @return 비교 함수가 true일 경우 true, 아닐 경우 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public Result<Boolean> matches(@NotNull LongPredicate func) {
+        return this.check(func.test(this.data));
+    }
+
+    /**
+     * 비교 결과에 따라서 결과를 생성하는 함수. 실패 상태일 경우 같은 메시지의 실패 상태를 반환한다.
+     */
+    private Result<Boolean> check(boolean matched) {
+        if (!this.result) {
+            return new Result<>(null, this.getMessage(), false);
+        } else if (!matched) {
+            return Result.error(UNEXPECTED_MESSAGE, this.data);
+        }
+
+        return Result.ok(true);
+    }
+
+    /**
+     * batch 실행 결과가 모두 1인지 확인하는 함수
+     *
+     * @param counts
+     *            batch 실행 결과. {@link Statement#executeLargeBatch()}의 결과
+     * @return 모두 1이면 true, 아닐 경우 처음 다른 값의 위치를 메시지로 갖는 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Result<Boolean> isAllOne(@NotNull long[] counts) {
+        for (int countIndex = 0; countIndex < counts.length; countIndex++) {
+            if (counts[countIndex] != 1) {
+                return Result.error(UNEXPECTED_BATCH_MESSAGE, countIndex, counts[countIndex]);
+            }
+        }
+
+        return Result.ok(true);
+    }
+
+    /**
+     * batch 실행 결과가 모두 1이상인지 확인하는 함수
+     *
+     * @param counts
+     *            batch 실행 결과. {@link Statement#executeLargeBatch()}의 결과
+     * @return 모두 1이상이면 true, 아닐 경우 처음 다른 값의 위치를 메시지로 갖는 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Result<Boolean> isAllOneMore(@NotNull long[] counts) {
+        for (int countIndex = 0; countIndex < counts.length; countIndex++) {
+            if (counts[countIndex] < 1) {
+                return Result.error(UNEXPECTED_BATCH_MESSAGE, countIndex, counts[countIndex]);
+            }
+        }
+
+        return Result.ok(true);
+    }
+
+    /**
+     * batch 실행 결과가 모두 0이상인지 확인하는 함수
+     *
+     * @param counts
+     *            batch 실행 결과. {@link Statement#executeLargeBatch()}의 결과
+     * @return 모두 0이상이면 true, 아닐 경우 처음 다른 값의 위치를 메시지로 갖는 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Result<Boolean> isAllZeroMore(@NotNull long[] counts) {
+        for (int countIndex = 0; countIndex < counts.length; countIndex++) {
+            if (counts[countIndex] < 0) {
+                return Result.error(UNEXPECTED_BATCH_MESSAGE, countIndex, counts[countIndex]);
+            }
+        }
+
+        return Result.ok(true);
+    }
+
+    /**
+     * batch 실행이 모두 성공했는지 확인하는 함수. 건수를 알 수 없는 성공({@link Statement#SUCCESS_NO_INFO})도 성공으로 판단한다.
+     *
+     * @param counts
+     *            batch 실행 결과. {@link Statement#executeLargeBatch()}의 결과
+     * @return 모두 성공했으면 true, 아닐 경우 처음 실패한 위치를 메시지로 갖는 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Result<Boolean> isAllSucceeded(@NotNull long[] counts) {
+        for (int countIndex = 0; countIndex < counts.length; countIndex++) {
+            if (counts[countIndex] < 0 && counts[countIndex] != Statement.SUCCESS_NO_INFO) {
+                return Result.error(UNEXPECTED_BATCH_MESSAGE, countIndex, counts[countIndex]);
+            }
+        }
+
+        return Result.ok(true);
+    }
+
+    /**
+     * batch 실행 결과를 모두 비교 함수로 확인하는 함수
+     *
+     * @param counts
+     *            batch 실행 결과. {@link Statement#executeLargeBatch()}의 결과
+     * @param func
+     *            결과 비교 함수
+     * @return 모두 비교 함수가 true일 경우 true, 아닐 경우 처음 false인 위치를 메시지로 갖는 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Result<Boolean> isAllMatch(@NotNull long[] counts, @NotNull LongPredicate func) {
+        for (int countIndex = 0; countIndex < counts.length; countIndex++) {
+            if (!func.test(counts[countIndex])) {
+                return Result.error(UNEXPECTED_BATCH_MESSAGE, countIndex, counts[countIndex]);
+            }
+        }
+
+        return Result.ok(true);
+    }
+
+    /**
+     * batch 실행 결과의 합계. 건수를 알 수 없는 결과(음수)는 제외한다.
+     *
+     * @param counts
+     *            batch 실행 결과. {@link Statement#executeLargeBatch()}의 결과
+     * @return 합계
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static long sum(@NotNull long[] counts) {
+        long sum = 0;
+
+        for (long count : counts) {
+            if (count > 0) {
+                sum += count;
+            }
+        }
+
+        return sum;
+    }
+
+}
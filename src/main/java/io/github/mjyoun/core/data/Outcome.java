@@ -0,0 +1,265 @@
+package io.github.mjyoun.core.data;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 변경할 수 없는 결과 객체. 성공({@link Ok}) 또는 실패({@link Err}) 중 하나이다. <br>
+ * {@link #map(Function)}, {@link #flatMap(Function)}으로 단계를 이어서 실행하며, 실패한 경우 이후 단계를 실행하지 않고 같은 실패 객체를 그대로 반환한다. 변경할 수 없으므로
+ * 여러 thread에서 공유하거나 캐싱할 수 있다. <br>
+ * {@link Result}와는 {@link #from(Result)}, {@link #toResult()}로 변환한다.
+ *
+ * <pre>
+ * String name = Outcome.from(userService.find(id)) //
+ *         .flatMap(user -&gt; user.isActive() ? Outcome.ok(user) : Outcome.err("비활성 사용자입니다. [id: {0}]", id)) //
+ *         .map(User::getName) //
+ *         .orElse("-");
+ * </pre>
+ *
+ * @param <T>
+ *            성공 데이터 타입
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public sealed interface Outcome<T> permits Outcome.Ok, Outcome.Err {
+
+    /**
+     * 성공 결과 생성. 데이터가 null, {@link Boolean}일 경우 공유 객체를 반환한다.
+     *
+     * @param <T>
+     *            성공 데이터 타입
+     * @param value
+     *            성공 데이터
+     * @return 성공 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Outcome<T> ok(T value) {
+        if (value == null) {
+            return (Outcome<T>) Ok.NULL;
+        } else if (value instanceof Boolean) {
+            return (Outcome<T>) ((Boolean) value ? Ok.TRUE : Ok.FALSE);
+        }
+
+        return new Ok<>(value);
+    }
+
+    /**
+     * 실패 결과 생성
+     *
+     * @param <T>
+     *            성공 데이터 타입
+     * @param msg
+     *            실패 메시지
+     * @param args
+     *            실패 메시지에 포함될 argument 목록. <br>
+     *            메시지 상에서 {0}, {1}, ... 위치에 맵핑 됨
+     * @return 실패 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static <T> Outcome<T> err(@NotNull String msg, Object... args) {
+        return new Err<>(ResultMessage.format(msg, args));
+    }
+
+    /**
+     * {@link Result}를 결과 객체로 변환
+     *
+     * @param <T>
+     *            성공 데이터 타입
+     * @param result
+     *            변환할 결과
+     * @return 성공일 경우 {@link Ok}, 실패일 경우 {@link Err}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static <T> Outcome<T> from(@NotNull Result<T> result) {
+        return result.isResult() ? ok(result.getData()) : new Err<>(result.getMessage());
+    }
+
+    /**
+     * @return 성공일 경우 true
+     */
+    boolean isOk();
+
+    /**
+     * 성공 데이터 변환
+     *
+     * @param <U>
+     *            변환한 데이터 타입
+     * @param func
+     *            변환 함수. 성공일 경우에만 실행한다.
+     * @return 성공일 경우 변환한 데이터의 성공 결과, 실패일 경우 같은 실패 결과
+     */
+    <U> Outcome<U> map(@NotNull Function<? super T, ? extends U> func);
+
+    /**
+     * 성공 데이터로 다음 단계 실행
+     *
+     * @param <U>
+     *            다음 단계의 데이터 타입
+     * @param func
+     *            다음 단계 함수. 성공일 경우에만 실행하며, null을 반환할 수 없다.
+     * @return 성공일 경우 다음 단계의 결과, 실패일 경우 같은 실패 결과
+     */
+    <U> Outcome<U> flatMap(@NotNull Function<? super T, ? extends Outcome<U>> func);
+
+    /**
+     * 실패 결과를 성공 결과로 변환
+     *
+     * @param func
+     *            실패 메시지로 대체 데이터를 생성하는 함수. 실패일 경우에만 실행한다.
+     * @return 성공일 경우 같은 성공 결과, 실패일 경우 대체 데이터의 성공 결과
+     */
+    Outcome<T> recover(@NotNull Function<String, ? extends T> func);
+
+    /**
+     * @param other
+     *            실패일 경우 반환할 데이터
+     * @return 성공일 경우 성공 데이터, 실패일 경우 other
+     */
+    T orElse(T other);
+
+    /**
+     * 성공/실패에 따라 값 생성
+     *
+     * @param <R>
+     *            생성할 값 타입
+     * @param onOk
+     *            성공 데이터로 값을 생성하는 함수
+     * @param onErr
+     *            실패 메시지로 값을 생성하는 함수
+     * @return 생성한 값
+     */
+    <R> R fold(@NotNull Function<? super T, ? extends R> onOk, @NotNull Function<String, ? extends R> onErr);
+
+    /**
+     * {@link Result}로 변환
+     *
+     * @return 성공일 경우 성공 {@link Result}, 실패일 경우 같은 메시지의 실패 {@link Result}
+     */
+    Result<T> toResult();
+
+    /**
+     * 성공 결과
+     *
+     * @param <T>
+     *            성공 데이터 타입
+     * @param value
+     *            성공 데이터. nullable
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    record Ok<T>(T value) implements Outcome<T> {
+
+        /** ok(null) 공유 객체 */
+        private static final Ok<Object> NULL = new Ok<>(null);
+        /** ok(true) 공유 객체 */
+        private static final Ok<Boolean> TRUE = new Ok<>(true);
+        /** ok(false) 공유 객체 */
+        private static final Ok<Boolean> FALSE = new Ok<>(false);
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public <U> Outcome<U> map(@NotNull Function<? super T, ? extends U> func) {
+            return Outcome.ok(func.apply(this.value));
+        }
+
+        @Override
+        public <U> Outcome<U> flatMap(@NotNull Function<? super T, ? extends Outcome<U>> func) {
+            return Objects.requireNonNull(func.apply(this.value), "다음 단계의 결과가 null입니다.");
+        }
+
+        @Override
+        public Outcome<T> recover(@NotNull Function<String, ? extends T> func) {
+            return this;
+        }
+
+        @Override
+        public T orElse(T other) {
+            return this.value;
+        }
+
+        @Override
+        public <R> R fold(@NotNull Function<? super T, ? extends R> onOk,
+                @NotNull Function<String, ? extends R> onErr) {
+            return onOk.apply(this.value);
+        }
+
+        @Override
+        public Result<T> toResult() {
+            return Result.ok(this.value);
+        }
+
+    }
+
+    /**
+     * 실패 결과
+     *
+     * @param <T>
+     *            성공 데이터 타입
+     * @param message
+     *            실패 메시지
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    record Err<T>(String message) implements Outcome<T> {
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public <U> Outcome<U> map(@NotNull Function<? super T, ? extends U> func) {
+            return this.cast();
+        }
+
+        @Override
+        public <U> Outcome<U> flatMap(@NotNull Function<? super T, ? extends Outcome<U>> func) {
+            return this.cast();
+        }
+
+        @Override
+        public Outcome<T> recover(@NotNull Function<String, ? extends T> func) {
+            return Outcome.ok(func.apply(this.message));
+        }
+
+        @Override
+        public T orElse(T other) {
+            return other;
+        }
+
+        @Override
+        public <R> R fold(@NotNull Function<? super T, ? extends R> onOk,
+                @NotNull Function<String, ? extends R> onErr) {
+            return onErr.apply(this.message);
+        }
+
+        @Override
+        public Result<T> toResult() {
+            // 이미 변환한 메시지이므로 형식을 다시 적용하지 않는다.
+            return new Result<>(null, this.message, false);
+        }
+
+        /**
+         * 실패 결과는 성공 데이터를 갖지 않으므로, 새 객체를 생성하지 않고 타입만 변환한다.
+         */
+        @SuppressWarnings("unchecked")
+        private <U> Outcome<U> cast() {
+            return (Outcome<U>) (Outcome<?>) this;
+        }
+
+    }
+
+}
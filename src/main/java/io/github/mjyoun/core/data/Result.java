@@ -1,17 +1,24 @@
 package io.github.mjyoun.core.data;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import jakarta.validation.constraints.NotNull;
 
 
 /**
- * 결과 타입을 반환할 때 사용하는 객체
+ * 결과 타입을 반환할 때 사용하는 객체 <br>
+ * 실패 메시지는 {@link #getMessage()}로 처음 조회할 때 변환한다. 변경할 수 없는 결과 객체가 필요할 경우 {@link Outcome}을 사용한다.
  * 
  * @author MJ Youn
  * @since 2021. 12. 23.
@@ -24,6 +31,8 @@ public class Result<T> {
     private String message;
     /** 실패/성공 여부 */
     private boolean result;
+    /** 아직 변환하지 않은 실패 메시지. 변환했거나 없을 경우 null */
+    private ResultMessage deferredMessage;
 
     public Result() {
     }
@@ -42,12 +51,31 @@ public class Result<T> {
         this.data = data;
     }
 
+    /**
+     * 실패 메시지 조회. {@link #error(String, Object...)}로 생성한 경우 처음 조회할 때 메시지를 변환한다.
+     * 
+     * @return 실패 메시지
+     * @throws IllegalArgumentException
+     *             메시지 형식이 잘못된 경우
+     */
     public String getMessage() {
+        ResultMessage deferred = this.deferredMessage;
+
+        if (deferred != null) {
+            String formatted = deferred.format();
+
+            this.message = formatted;
+            this.deferredMessage = null;
+
+            return formatted;
+        }
+
         return message;
     }
 
     public void setMessage(String message) {
         this.message = message;
+        this.deferredMessage = null;
     }
 
     public boolean isResult() {
@@ -62,7 +90,7 @@ public class Result<T> {
     public String toString() {
         return "Result{" +
                 "data=" + data +
-                ", message='" + message + '\'' +
+                ", message='" + this.getMessage() + '\'' +
                 ", result=" + result +
                 '}';
     }
@@ -81,7 +109,7 @@ public class Result<T> {
     }
 
     /**
-     * iterable을 받아 list로 변환하여 생성하는 함수
+     * iterable을 받아 list로 변환하여 생성하는 함수. iterable이 {@link Collection}일 경우 크기만큼 list를 미리 할당한다.
      * 
      * @param <S>
      *            iterable(source) 객체
@@ -97,15 +125,158 @@ public class Result<T> {
         // 조회
         Iterable<S> dataIterable = sup.get();
         // 변환
-        List<D> convertedDatas = StreamSupport.stream(dataIterable.spliterator(), false) //
-                .map(convertFunc) //
-                .collect(Collectors.toList());
+        List<D> convertedDatas = dataIterable instanceof Collection
+                ? new ArrayList<>(((Collection<S>) dataIterable).size())
+                : new ArrayList<>();
+
+        for (S data : dataIterable) {
+            convertedDatas.add(convertFunc.apply(data));
+        }
 
         return new Result<>(convertedDatas, null, true);
     }
 
     /**
-     * 실패 상태를 생성하는 메소드
+     * iterable을 받아 데이터를 사용할 때 변환하는 stream으로 생성하는 함수. 변환한 데이터를 list로 모으지 않고 바로 처리할 때 사용한다.
+     * 
+     * @param <S>
+     *            iterable(source) 객체
+     * @param <D>
+     *            stream(destination) 객체
+     * @param sup
+     *            iterable 을 제공하는 메소드. 일반적으로 repository.findAll()
+     * @param convertFunc
+     *            sourced에서 destination으로 객체 변환하는 함수. stream을 소비할 때 실행된다.
+     * @return destination stream으로 값을 갖는 {@link Result} 객체
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <S, D> Result<Stream<D>> convertIterableToStream(Supplier<Iterable<S>> sup,
+            Function<S, D> convertFunc) {
+        // 조회
+        Iterable<S> dataIterable = sup.get();
+        // 변환
+        Stream<D> convertedDatas = StreamSupport.stream(dataIterable.spliterator(), false) //
+                .map(convertFunc);
+
+        return new Result<>(convertedDatas, null, true);
+    }
+
+    /**
+     * iterable을 받아 chunk 단위로 나누어 여러 thread에서 변환하고, 원래 순서대로 list로 생성하는 함수. 변환 비용이 큰 경우에 사용한다.
+     * 
+     * @param <S>
+     *            iterable(source) 객체
+     * @param <D>
+     *            list(destination) 객체
+     * @param sup
+     *            iterable 을 제공하는 메소드. 일반적으로 repository.findAll()
+     * @param convertFunc
+     *            sourced에서 destination으로 객체 변환하는 함수. 여러 thread에서 동시에 호출된다.
+     * @param chunkSize
+     *            chunk 하나의 데이터 개수
+     * @param executor
+     *            변환을 실행할 executor
+     * @return destination list로 값을 갖는 {@link Result} 객체
+     * @throws IllegalArgumentException
+     *             chunk 크기가 1 미만일 경우
+     * @throws CancellationException
+     *             변환 결과를 기다리는 중 interrupt된 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <S, D> Result<List<D>> convertIterableToList(Supplier<Iterable<S>> sup, Function<S, D> convertFunc,
+            int chunkSize, @NotNull Executor executor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(
+                    ResultMessage.format("chunk 크기는 1 이상이어야 합니다. [chunkSize: {0}]", String.valueOf(chunkSize)));
+        }
+
+        // 조회
+        Iterable<S> dataIterable = sup.get();
+        List<CompletableFuture<List<D>>> chunks = new ArrayList<>();
+        List<S> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            // chunk 단위로 변환 시작
+            for (S data : dataIterable) {
+                chunk.add(data);
+
+                if (chunk.size() == chunkSize) {
+                    chunks.add(convertChunk(chunk, convertFunc, executor));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                chunks.add(convertChunk(chunk, convertFunc, executor));
+            }
+
+            // 원래 순서대로 결과 병합
+            int size = dataIterable instanceof Collection ? ((Collection<S>) dataIterable).size()
+                    : chunks.size() * chunkSize;
+            List<D> convertedDatas = new ArrayList<>(size);
+
+            for (CompletableFuture<List<D>> converted : chunks) {
+                convertedDatas.addAll(join(converted));
+            }
+
+            return new Result<>(convertedDatas, null, true);
+        } finally {
+            // 실패한 경우 시작하지 않은 변환 취소
+            for (CompletableFuture<List<D>> converted : chunks) {
+                converted.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * chunk 하나를 executor에서 변환
+     */
+    private static <S, D> CompletableFuture<List<D>> convertChunk(List<S> chunk, Function<S, D> convertFunc,
+            Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<D> converted = new ArrayList<>(chunk.size());
+
+            for (S data : chunk) {
+                converted.add(convertFunc.apply(data));
+            }
+
+            return converted;
+        }, executor);
+    }
+
+    /**
+     * 변환 결과 대기. 변환 중 발생한 예외는 원래 예외로 던진다.
+     */
+    private static <D> List<D> join(CompletableFuture<List<D>> converted) {
+        try {
+            return converted.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            CancellationException cancellation = new CancellationException("데이터 변환이 중단되었습니다.");
+            cancellation.initCause(e);
+            throw cancellation;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("데이터 변환에 실패했습니다.", cause);
+        }
+    }
+
+    /**
+     * 실패 상태를 생성하는 메소드 <br>
+     * 메시지는 {@link #getMessage()}로 처음 조회할 때 변환한다. 그때까지 argument 객체를 그대로 참조하므로, 조회 전에 argument의 상태가 바뀌면
+     * 바뀐 값이 메시지에 포함된다. 상태가 바뀔 수 있는 객체는 문자열로 변환하여 넘긴다.
      * 
      * @param <T>
      *            실패 객체 타입
@@ -117,8 +288,10 @@ public class Result<T> {
      * @return 실패 상태
      */
     public static <T> Result<T> error(@NotNull String msg, Object... args) {
-        String message = MessageFormat.format(msg, args);
-        return new Result<>(null, message, false);
+        Result<T> error = new Result<>(null, null, false);
+        error.deferredMessage = new ResultMessage(msg, args);
+
+        return error;
     }
 
     /**
@@ -131,7 +304,11 @@ public class Result<T> {
      * @return 실패 상태
      */
     public static <T> Result<T> error(@NotNull Result<?> result) {
-        return new Result<>(null, result.getMessage(), false);
+        Result<T> error = new Result<>(null, result.message, false);
+        // 변환하지 않은 메시지는 그대로 넘겨, 조회할 때 한 번만 변환한다.
+        error.deferredMessage = result.deferredMessage;
+
+        return error;
     }
 
     /**
@@ -143,7 +320,7 @@ public class Result<T> {
      * @since 2021. 12. 28.
      */
     public Result<Boolean> isOne() {
-        return this.checkCount(() -> (Integer) this.data == 1);
+        return this.checkCount(data -> data == 1);
     }
 
     /**
@@ -155,7 +332,7 @@ public class Result<T> {
      * @since 2021. 12. 28.
      */
     public Result<Boolean> isOneMore() {
-        return this.checkCount(() -> (Integer) this.data > 0);
+        return this.checkCount(data -> data > 0);
     }
 
     /**
@@ -167,7 +344,7 @@ public class Result<T> {
      * @since 2021. 12. 28.
      */
     public Result<Boolean> isZeroMore() {
-        return this.checkCount(() -> (Integer) this.data > -1);
+        return this.checkCount(data -> data > -1);
     }
 
     /**
@@ -181,7 +358,7 @@ public class Result<T> {
      * @since 2021. 12. 28.
      */
     public Result<Boolean> isEqualCount(int count) {
-        return this.checkCount(() -> (Integer) this.data == count);
+        return this.checkCount(data -> data == count);
     }
 
     /**
@@ -194,26 +371,26 @@ public class Result<T> {
      * @author MJ Youn
      * @since 2021. 12. 28.
      */
-    private Result<Boolean> checkCount(Supplier<Boolean> func) {
+    private Result<Boolean> checkCount(IntPredicate func) {
         if (this.data instanceof Integer) {
-            return this.isTrue(func);
+            return this.isTrue(func.test((Integer) this.data));
         }
 
-        throw new NumberFormatException(MessageFormat.format("결과 데이터가 Integer 타입이 아닙니다. [data: {0}]", this.data));
+        throw new NumberFormatException(ResultMessage.format("결과 데이터가 Integer 타입이 아닙니다. [data: {0}]", this.data));
     }
 
     /**
-     * 비교 함수의 결과에 따라서 결과를 생성하는 함수
+     * 비교 결과에 따라서 결과를 생성하는 함수
      * 
-     * @param func
-     *            비교 함수
-     * @return 비교 함수가 true일 경우 true, 아닐 경우 false
+     * @param matched
+     *            비교 결과
+     * @return 비교 결과가 true일 경우 true, 아닐 경우 false
      * 
      * @author MJ Youn
      * @since 2021. 12. 28.
      */
-    private Result<Boolean> isTrue(@NotNull Supplier<Boolean> func) {
-        if (!func.get()) {
+    private Result<Boolean> isTrue(boolean matched) {
+        if (!matched) {
             return Result.error("실행 결과가 예상 값과 다릅니다. [result: {0}]", this.data);
         } else {
             return Result.ok(true);
@@ -0,0 +1,475 @@
+package io.github.mjyoun.core.data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.validation.constraints.NotNull;
+
+import io.github.mjyoun.core.utils.ThreadUtils;
+
+/**
+ * {@link Result}를 반환하는 작업 여러 개를 동시에 실행하고 결과를 하나로 모으는 객체. <br>
+ * 작업마다 virtual thread를 할당하여 실행하며, 결과를 반환하기 전에 끝나지 않은 작업은 모두 취소(interrupt)한다. 작업별 제한 시간과
+ * 전체 제한 시간을 설정할 수 있고, 시간을 넘은 작업은 실패로 처리한다. 작업에서 발생한 예외도 실패로 처리한다. <br>
+ * {@code StructuredTaskScope}는 Java 25에서도 preview API이므로 사용하지 않고, 실행할 때마다 executor를 생성하여 반환하기 전에 모든 작업 thread가 끝날
+ * 때까지 기다린다. 따라서 interrupt에 응답하지 않는 작업이 있으면 제한 시간이 지나도 그 작업이 끝날 때까지 반환하지 않는다. executor를 지정한 경우에는 기다리지 않으므로,
+ * interrupt에 응답하지 않는 작업은 반환한 후에도 계속 실행될 수 있다. <br>
+ * 설정만 갖는 객체이므로 여러 thread에서 공유할 수 있다.
+ *
+ * <pre>
+ * ResultAggregator aggregator = ResultAggregator.builder() //
+ *         .taskTimeout(Duration.ofSeconds(2)) //
+ *         .timeout(Duration.ofSeconds(5)) //
+ *         .build();
+ *
+ * Result&lt;List&lt;User&gt;&gt; users = aggregator.all(List.of( //
+ *         () -&gt; userService.find(1), //
+ *         () -&gt; userService.find(2)));
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ResultAggregator {
+
+    /** 실패 메시지 구분자 */
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    /** 작업별 제한 시간 (nanosecond). 없을 경우 0 */
+    private final long taskTimeoutNanos;
+    /** 전체 제한 시간 (nanosecond). 없을 경우 0 */
+    private final long timeoutNanos;
+    /** 작업을 실행할 executor. 없을 경우 null */
+    private final Executor executor;
+
+    private ResultAggregator(Builder builder) {
+        this.taskTimeoutNanos = builder.taskTimeout == null ? 0 : builder.taskTimeout.toNanos();
+        this.timeoutNanos = builder.timeout == null ? 0 : builder.timeout.toNanos();
+        this.executor = builder.executor;
+    }
+
+    /**
+     * 생성 객체 조회
+     *
+     * @return {@link Builder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 모든 작업이 성공해야 하는 경우. 작업 하나가 실패하면 나머지 작업을 취소하고 바로 실패를 반환한다.
+     *
+     * @param <T>
+     *            작업 결과 데이터 타입
+     * @param tasks
+     *            작업 목록
+     * @return 모두 성공한 경우 작업 순서대로 결과 데이터 목록을 갖는 성공 결과, 아닐 경우 처음 실패한 작업의 실패 결과
+     * @throws CancellationException
+     *             결과를 기다리는 중 interrupt된 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public <T> Result<List<T>> all(@NotNull List<? extends Supplier<Result<T>>> tasks) {
+        Run<T> run = this.run(tasks, result -> !result.isResult());
+
+        if (run.stopped != null) {
+            return Result.error(run.stopped);
+        }
+
+        for (Result<T> result : run.results) {
+            if (!result.isResult()) {
+                return Result.error(result);
+            }
+        }
+
+        return Result.ok(datas(run.results));
+    }
+
+    /**
+     * 작업 하나만 성공하면 되는 경우. 처음 성공한 작업의 결과를 반환하고 나머지 작업을 취소한다.
+     *
+     * @param <T>
+     *            작업 결과 데이터 타입
+     * @param tasks
+     *            작업 목록
+     * @return 처음 성공한 작업의 결과. 모두 실패한 경우 작업 순서대로 실패 메시지를 합친 실패 결과
+     * @throws IllegalArgumentException
+     *             작업 목록이 비어 있는 경우
+     * @throws CancellationException
+     *             결과를 기다리는 중 interrupt된 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public <T> Result<T> firstSuccess(@NotNull List<? extends Supplier<Result<T>>> tasks) {
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("작업 목록이 비어 있습니다.");
+        }
+
+        Run<T> run = this.run(tasks, Result::isResult);
+
+        if (run.stopped != null) {
+            return run.stopped;
+        }
+
+        return new Result<>(null, messages(run.results), false);
+    }
+
+    /**
+     * 모든 작업의 결과를 모으는 경우. 실패한 작업이 있어도 나머지 작업을 계속 실행한다.
+     *
+     * @param <T>
+     *            작업 결과 데이터 타입
+     * @param tasks
+     *            작업 목록
+     * @return 모두 성공한 경우 작업 순서대로 결과 데이터 목록을 갖는 성공 결과. 실패한 작업이 있을 경우 실패 메시지를 작업 순서대로 합친 실패 결과이며, 데이터는 실패한 작업의
+     *         위치가 null인 결과 데이터 목록
+     * @throws CancellationException
+     *             결과를 기다리는 중 interrupt된 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public <T> Result<List<T>> collectAll(@NotNull List<? extends Supplier<Result<T>>> tasks) {
+        Run<T> run = this.run(tasks, result -> false);
+
+        for (Result<T> result : run.results) {
+            if (!result.isResult()) {
+                return new Result<>(datas(run.results), messages(run.results), false);
+            }
+        }
+
+        return Result.ok(datas(run.results));
+    }
+
+    /**
+     * 작업을 동시에 실행하고 결과를 기다림. 반환하기 전에 끝나지 않은 작업은 모두 취소한다.
+     *
+     * @param tasks
+     *            작업 목록
+     * @param stop
+     *            작업이 끝날 때마다 결과를 확인하며, true일 경우 나머지 작업을 취소하고 바로 반환한다.
+     * @return 실행 결과
+     */
+    private <T> Run<T> run(List<? extends Supplier<Result<T>>> tasks, Predicate<Result<T>> stop) {
+        Run<T> run = new Run<>(tasks.size(), stop);
+
+        if (tasks.isEmpty()) {
+            return run;
+        }
+
+        ExecutorService ownExecutor = this.executor == null ? ThreadUtils.newTaskExecutor("result-task-") : null;
+        CompletionService<Done<T>> completion = new ExecutorCompletionService<>(
+                ownExecutor == null ? this.executor : ownExecutor);
+        long deadline = this.timeoutNanos == 0 ? 0 : System.nanoTime() + this.timeoutNanos;
+        boolean timedOut = false;
+
+        try {
+            for (int taskIndex = 0; taskIndex < tasks.size(); taskIndex++) {
+                run.futures.add(completion.submit(task(taskIndex, tasks.get(taskIndex), run.started)));
+            }
+
+            while (run.pending > 0 && run.stopped == null) {
+                long now = System.nanoTime();
+
+                if (deadline != 0 && now - deadline >= 0) {
+                    timedOut = true;
+                    break;
+                }
+
+                this.expire(run, now);
+
+                if (run.pending == 0 || run.stopped != null) {
+                    break;
+                }
+
+                Future<Done<T>> future = completion.poll(this.waitNanos(run, deadline, now), TimeUnit.NANOSECONDS);
+
+                if (future != null && !future.isCancelled()) {
+                    Done<T> done = future.get();
+                    run.complete(done.index, done.result);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            CancellationException cancellation = new CancellationException("작업 결과 대기가 중단되었습니다.");
+            cancellation.initCause(e);
+            throw cancellation;
+        } catch (ExecutionException e) {
+            // 작업에서 발생한 RuntimeException은 실패 결과로 변환하므로, Error만 그대로 전달한다.
+            Throwable cause = e.getCause();
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("작업 실행에 실패했습니다.", cause);
+        } finally {
+            for (Future<Done<T>> future : run.futures) {
+                future.cancel(true);
+            }
+
+            if (ownExecutor != null) {
+                // 취소한 작업의 thread가 모두 끝날 때까지 기다린다.
+                ownExecutor.close();
+            }
+        }
+
+        for (int taskIndex = 0; taskIndex < run.results.length; taskIndex++) {
+            if (run.results[taskIndex] == null) {
+                run.results[taskIndex] = timedOut
+                        ? Result.error("전체 작업 시간이 초과되었습니다. [task: {0}, timeout: {1}ms]", taskIndex,
+                                TimeUnit.NANOSECONDS.toMillis(this.timeoutNanos))
+                        : Result.error("작업이 취소되었습니다. [task: {0}]", taskIndex);
+            }
+        }
+
+        return run;
+    }
+
+    /**
+     * 작업별 제한 시간을 넘은 작업을 취소하고 실패로 처리
+     */
+    private <T> void expire(Run<T> run, long now) {
+        if (this.taskTimeoutNanos == 0) {
+            return;
+        }
+
+        for (int taskIndex = 0; taskIndex < run.results.length && run.stopped == null; taskIndex++) {
+            long start = run.started.get(taskIndex);
+
+            if (run.results[taskIndex] == null && start != 0 && now - start >= this.taskTimeoutNanos) {
+                run.futures.get(taskIndex).cancel(true);
+                run.complete(taskIndex, Result.error("작업 시간이 초과되었습니다. [task: {0}, timeout: {1}ms]", taskIndex,
+                        TimeUnit.NANOSECONDS.toMillis(this.taskTimeoutNanos)));
+            }
+        }
+    }
+
+    /**
+     * 다음 작업 결과를 기다릴 시간 계산. 전체 제한 시간과 실행 중인 작업의 제한 시간 중 가장 이른 시각까지 기다린다.
+     *
+     * @return 기다릴 시간 (nanosecond)
+     */
+    private <T> long waitNanos(Run<T> run, long deadline, long now) {
+        long wait = deadline == 0 ? Long.MAX_VALUE : deadline - now;
+
+        if (this.taskTimeoutNanos != 0) {
+            for (int taskIndex = 0; taskIndex < run.results.length; taskIndex++) {
+                long start = run.started.get(taskIndex);
+
+                if (run.results[taskIndex] == null) {
+                    // 시작 전인 작업은 시작 시각을 알 수 없으므로, 제한 시간만큼 기다린 후 다시 확인한다.
+                    wait = Math.min(wait, start == 0 ? this.taskTimeoutNanos : start + this.taskTimeoutNanos - now);
+                }
+            }
+        }
+
+        return Math.max(wait, 0);
+    }
+
+    /**
+     * 작업 실행 객체 생성. 시작 시각을 기록하고, 예외와 null 결과는 실패 결과로 변환한다.
+     */
+    private static <T> Callable<Done<T>> task(int taskIndex, Supplier<Result<T>> task, AtomicLongArray started) {
+        return () -> {
+            // 0은 시작 전을 의미하므로 시작 시각은 0이 아니도록 기록한다.
+            started.set(taskIndex, System.nanoTime() | 1);
+            Result<T> result;
+
+            try {
+                result = task.get();
+
+                if (result == null) {
+                    result = Result.error("작업 결과가 없습니다. [task: {0}]", taskIndex);
+                }
+            } catch (RuntimeException e) {
+                result = Result.error("작업 실행 중 예외가 발생했습니다. [task: {0}, error: {1}]", taskIndex, e.toString());
+            }
+
+            return new Done<>(taskIndex, result);
+        };
+    }
+
+    /**
+     * 작업 순서대로 결과 데이터 목록 생성. 실패한 작업은 null
+     */
+    private static <T> List<T> datas(Result<T>[] results) {
+        List<T> datas = new ArrayList<>(results.length);
+
+        for (Result<T> result : results) {
+            datas.add(result.isResult() ? result.getData() : null);
+        }
+
+        return datas;
+    }
+
+    /**
+     * 작업 순서대로 실패 메시지를 합침
+     */
+    private static <T> String messages(Result<T>[] results) {
+        return String.join(MESSAGE_DELIMITER, Arrays.stream(results) //
+                .filter(result -> !result.isResult()) //
+                .map(Result::getMessage) //
+                .toArray(String[]::new));
+    }
+
+    /**
+     * 작업 실행 상태. 결과를 기다리는 thread에서만 변경한다.
+     *
+     * @param <T>
+     *            작업 결과 데이터 타입
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static class Run<T> {
+
+        /** 작업 순서대로 작업 결과. 끝나지 않은 작업은 null */
+        private final Result<T>[] results;
+        /** 작업 순서대로 실행 중인 작업 */
+        private final List<Future<Done<T>>> futures;
+        /** 작업별 시작 시각. 시작 전일 경우 0 */
+        private final AtomicLongArray started;
+        /** 중단 조건 */
+        private final Predicate<Result<T>> stop;
+        /** 끝나지 않은 작업 개수 */
+        private int pending;
+        /** 중단 조건을 만족한 작업 결과. 없을 경우 null */
+        private Result<T> stopped;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Run(int taskCount, Predicate<Result<T>> stop) {
+            this.results = new Result[taskCount];
+            this.futures = new ArrayList<>(taskCount);
+            this.started = new AtomicLongArray(taskCount);
+            this.stop = stop;
+            this.pending = taskCount;
+        }
+
+        /**
+         * 작업 결과 저장. 이미 끝난 작업(제한 시간 초과)의 결과는 무시한다.
+         */
+        void complete(int taskIndex, Result<T> result) {
+            if (this.results[taskIndex] != null) {
+                return;
+            }
+
+            this.results[taskIndex] = result;
+            this.pending--;
+
+            if (this.stop.test(result)) {
+                this.stopped = result;
+            }
+        }
+
+    }
+
+    /**
+     * 끝난 작업의 결과
+     *
+     * @param <T>
+     *            작업 결과 데이터 타입
+     * @param index
+     *            작업 순서
+     * @param result
+     *            작업 결과
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private record Done<T>(int index, Result<T> result) {
+    }
+
+    /**
+     * {@link ResultAggregator} 생성 객체
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static class Builder {
+
+        /** 작업별 제한 시간 */
+        private Duration taskTimeout;
+        /** 전체 제한 시간 */
+        private Duration timeout;
+        /** 작업을 실행할 executor */
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * @param taskTimeout
+         *            작업별 제한 시간. 작업이 시작된 시각부터 계산한다. null일 경우 제한 없음. default null
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             0 이하일 경우
+         */
+        public Builder taskTimeout(Duration taskTimeout) {
+            this.taskTimeout = checkTimeout("taskTimeout", taskTimeout);
+            return this;
+        }
+
+        /**
+         * @param timeout
+         *            전체 제한 시간. null일 경우 제한 없음. default null
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             0 이하일 경우
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = checkTimeout("timeout", timeout);
+            return this;
+        }
+
+        /**
+         * @param executor
+         *            작업을 실행할 executor. null일 경우 실행할 때마다 virtual thread executor를 생성하고, 모든 작업 thread가 끝날 때까지 기다린 후
+         *            반환한다. 지정한 executor의 작업은 취소만 하고 끝날 때까지 기다리지 않는다. default null
+         * @return {@link Builder}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * 생성
+         *
+         * @return {@link ResultAggregator}
+         */
+        public ResultAggregator build() {
+            return new ResultAggregator(this);
+        }
+
+        private static Duration checkTimeout(String name, Duration timeout) {
+            if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+                throw new IllegalArgumentException(
+                        ResultMessage.format("제한 시간은 0보다 커야 합니다. [{0}: {1}]", name, timeout));
+            }
+
+            return timeout;
+        }
+
+    }
+
+}
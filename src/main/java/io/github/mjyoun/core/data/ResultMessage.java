@@ -0,0 +1,86 @@
+package io.github.mjyoun.core.data;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 아직 변환하지 않은 실패 메시지. 메시지 형식과 argument를 보관하고, 메시지를 처음 조회할 때 변환한다. <br>
+ * 메시지 형식마다 분석한 {@link MessageFormat}을 캐싱하여, 같은 형식의 메시지를 변환할 때 형식을 다시 분석하지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+final class ResultMessage {
+
+    /** 캐싱할 최대 메시지 형식 개수. 넘을 경우 새 형식은 캐싱하지 않는다. */
+    private static final int CACHE_LIMIT = 1024;
+    /** 메시지 형식별 분석 결과 */
+    private static final Map<String, MessageFormat> FORMATS = new ConcurrentHashMap<>();
+
+    /** 메시지 형식 */
+    private final String pattern;
+    /** 메시지 argument 목록 */
+    private final Object[] args;
+
+    /**
+     * @param pattern
+     *            메시지 형식
+     * @param args
+     *            메시지 argument 목록
+     */
+    ResultMessage(@NotNull String pattern, Object[] args) {
+        this.pattern = pattern;
+        this.args = args;
+    }
+
+    /**
+     * 메시지 변환
+     *
+     * @return 메시지
+     * @throws IllegalArgumentException
+     *             메시지 형식이 잘못된 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    String format() {
+        return format(this.pattern, this.args);
+    }
+
+    /**
+     * 캐싱한 분석 결과로 메시지 변환. {@link MessageFormat#format(String, Object...)}와 같은 결과를 반환한다.
+     *
+     * @param pattern
+     *            메시지 형식
+     * @param args
+     *            메시지 argument 목록
+     * @return 메시지
+     * @throws IllegalArgumentException
+     *             메시지 형식이 잘못된 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static String format(@NotNull String pattern, Object... args) {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        MessageFormat format = FORMATS.get(pattern);
+
+        if (format == null || !locale.equals(format.getLocale())) {
+            format = new MessageFormat(pattern, locale);
+
+            if (FORMATS.size() < CACHE_LIMIT || FORMATS.containsKey(pattern)) {
+                // MessageFormat은 thread-safe하지 않으므로, 캐싱한 객체는 복사해서 사용한다.
+                FORMATS.put(pattern, (MessageFormat) format.clone());
+            }
+
+            return format.format(args);
+        }
+
+        return ((MessageFormat) format.clone()).format(args);
+    }
+
+}
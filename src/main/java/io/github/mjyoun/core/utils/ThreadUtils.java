@@ -0,0 +1,30 @@
+package io.github.mjyoun.core.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * thread 관련된 유틸
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ThreadUtils {
+
+    /**
+     * 작업마다 virtual thread를 생성하는 executor 생성
+     *
+     * @param threadNamePrefix
+     *            thread 이름 접두사. 이름 뒤에 1부터 시작하는 순번을 붙인다.
+     * @return executor. 사용 후 종료해야 한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static ExecutorService newTaskExecutor(@NotNull String threadNamePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+    }
+
+}
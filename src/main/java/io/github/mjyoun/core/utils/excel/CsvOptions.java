@@ -0,0 +1,247 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+/**
+ * CSV/TSV 생성 설정 정보
+ *
+ * <pre>
+ * CsvOptions options = CsvOptions.builder() //
+ *         .charset(Charset.forName("MS949")) //
+ *         .build();
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class CsvOptions {
+
+    /** 최소 인코딩 buffer 크기 (문자 수) */
+    public static final int MIN_BUFFER_SIZE = 16;
+
+    /** 기본 설정. 쉼표 구분, UTF-8 */
+    public static final CsvOptions DEFAULT = CsvOptions.builder().build();
+    /** TSV 기본 설정. 탭 구분, UTF-8 */
+    public static final CsvOptions TSV = CsvOptions.builder().delimiter('\t').build();
+
+    /** 구분자 */
+    private final char delimiter;
+    /** 따옴표 문자 */
+    private final char quote;
+    /** 따옴표로 감싸는 방법 */
+    private final CsvQuoting quoting;
+    /** 줄바꿈 문자 */
+    private final String lineSeparator;
+    /** 문자셋 */
+    private final Charset charset;
+    /** BOM 기록 여부 */
+    private final boolean bom;
+    /** 인코딩 buffer 크기 (문자 수) */
+    private final int bufferSize;
+
+    private CsvOptions(Builder builder) {
+        this.delimiter = builder.delimiter;
+        this.quote = builder.quote;
+        this.quoting = builder.quoting;
+        this.lineSeparator = builder.lineSeparator;
+        this.charset = builder.charset;
+        this.bom = builder.bom;
+        this.bufferSize = builder.bufferSize;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    public char getQuote() {
+        return quote;
+    }
+
+    public CsvQuoting getQuoting() {
+        return quoting;
+    }
+
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public boolean isBom() {
+        return bom;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * 설정 생성 객체 조회
+     *
+     * @return {@link Builder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 현재 설정 값을 가진 설정 생성 객체 조회
+     *
+     * @return {@link Builder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.delimiter = this.delimiter;
+        builder.quote = this.quote;
+        builder.quoting = this.quoting;
+        builder.lineSeparator = this.lineSeparator;
+        builder.charset = this.charset;
+        builder.bom = this.bom;
+        builder.bufferSize = this.bufferSize;
+
+        return builder;
+    }
+
+    /**
+     * {@link CsvOptions} 생성 객체
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static class Builder {
+
+        /** 구분자 */
+        private char delimiter = ',';
+        /** 따옴표 문자 */
+        private char quote = '"';
+        /** 따옴표로 감싸는 방법 */
+        private CsvQuoting quoting = CsvQuoting.MINIMAL;
+        /** 줄바꿈 문자 */
+        private String lineSeparator = "\r\n";
+        /** 문자셋 */
+        private Charset charset = StandardCharsets.UTF_8;
+        /** BOM 기록 여부 */
+        private boolean bom = false;
+        /** 인코딩 buffer 크기 (문자 수) */
+        private int bufferSize = 64 * 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * @param delimiter
+         *            구분자. default ','
+         * @return {@link Builder}
+         */
+        public Builder delimiter(char delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * @param quote
+         *            따옴표 문자. 값에 포함된 따옴표 문자는 두번 기록한다. default '"'
+         * @return {@link Builder}
+         */
+        public Builder quote(char quote) {
+            this.quote = quote;
+            return this;
+        }
+
+        /**
+         * @param quoting
+         *            따옴표로 감싸는 방법. default {@link CsvQuoting#MINIMAL}
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             null일 경우
+         */
+        public Builder quoting(CsvQuoting quoting) {
+            if (quoting == null) {
+                throw new IllegalArgumentException("따옴표 처리 방법이 없습니다.");
+            }
+
+            this.quoting = quoting;
+            return this;
+        }
+
+        /**
+         * @param lineSeparator
+         *            줄바꿈 문자. default "\r\n"
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             null이거나 빈 문자열일 경우
+         */
+        public Builder lineSeparator(String lineSeparator) {
+            if (lineSeparator == null || lineSeparator.isEmpty()) {
+                throw new IllegalArgumentException("줄바꿈 문자가 없습니다.");
+            }
+
+            this.lineSeparator = lineSeparator;
+            return this;
+        }
+
+        /**
+         * @param charset
+         *            문자셋. 표현할 수 없는 문자는 대체 문자로 기록한다. default UTF-8
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             null이거나 인코딩을 지원하지 않는 문자셋일 경우
+         */
+        public Builder charset(Charset charset) {
+            if (charset == null || !charset.canEncode()) {
+                throw new IllegalArgumentException("인코딩할 수 없는 문자셋입니다.");
+            }
+
+            this.charset = charset;
+            return this;
+        }
+
+        /**
+         * @param bom
+         *            true일 경우 파일 처음에 BOM을 기록한다. 엑셀에서 UTF-8 파일을 열 때 필요하다. default false
+         * @return {@link Builder}
+         */
+        public Builder bom(boolean bom) {
+            this.bom = bom;
+            return this;
+        }
+
+        /**
+         * @param bufferSize
+         *            인코딩 buffer 크기 (문자 수). buffer가 찰 때마다 channel에 기록한다. default 65536
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             {@link CsvOptions#MIN_BUFFER_SIZE} 미만일 경우
+         */
+        public Builder bufferSize(int bufferSize) {
+            if (bufferSize < MIN_BUFFER_SIZE) {
+                throw new IllegalArgumentException(MessageFormat.format("buffer 크기는 {0} 이상이어야 합니다. [bufferSize: {1}]",
+                        String.valueOf(MIN_BUFFER_SIZE), String.valueOf(bufferSize)));
+            }
+
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * 설정 생성
+         *
+         * @return {@link CsvOptions}
+         */
+        public CsvOptions build() {
+            return new CsvOptions(this);
+        }
+
+    }
+
+}
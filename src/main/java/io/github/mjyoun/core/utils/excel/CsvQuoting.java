@@ -0,0 +1,18 @@
+package io.github.mjyoun.core.utils.excel;
+
+/**
+ * CSV 값을 따옴표로 감싸는 방법
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public enum CsvQuoting {
+
+    /** 구분자, 따옴표, 줄바꿈 문자가 포함된 값만 감싼다. */
+    MINIMAL,
+    /** 모든 값을 감싼다. */
+    ALL,
+    /** 감싸지 않는다. 값에 구분자나 줄바꿈 문자가 없는 경우에만 사용한다. */
+    NONE;
+
+}
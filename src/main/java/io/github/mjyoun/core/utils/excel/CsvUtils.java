@@ -0,0 +1,186 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * CSV/TSV 관련 유틸 정보. <br>
+ * {@link ExcelUtils}와 같은 {@link io.github.mjyoun.core.utils.excel.annotation.ExcelColumn} 헤더, 컬럼 순서와 값 표시 형식을 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class CsvUtils {
+
+    /**
+     * CSV 파일 생성
+     *
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param path
+     *            저장할 위치
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Iterable<T> contents, @NotNull Class<T> clazz, @NotNull Path path)
+            throws IOException {
+        create(contents.iterator(), clazz, path, CsvOptions.DEFAULT);
+    }
+
+    /**
+     * CSV/TSV 파일 생성. 데이터를 순회하며 한 row씩 바로 파일에 기록한다.
+     *
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param path
+     *            저장할 위치
+     * @param options
+     *            CSV 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Iterator<T> contents, @NotNull Class<T> clazz, @NotNull Path path,
+            @NotNull CsvOptions options) throws IOException {
+        try (FileChannel channel = open(path)) {
+            create(contents, clazz, channel, options);
+        }
+    }
+
+    /**
+     * CSV/TSV 데이터를 channel에 기록. 데이터를 순회하며 한 row씩 바로 기록한다. <br>
+     * channel은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     *
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param channel
+     *            기록할 channel
+     * @param options
+     *            CSV 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Iterator<T> contents, @NotNull Class<T> clazz,
+            @NotNull WritableByteChannel channel, @NotNull CsvOptions options) throws IOException {
+        ExcelSheetModel<T> model = ExcelSheetModel.of(clazz);
+        CsvWriter writer = new CsvWriter(channel, options);
+        String[] values = new String[model.getColumnCount()];
+
+        writer.writeRow(model.getHeaders());
+
+        while (contents.hasNext()) {
+            Object[] datas = model.extract(contents.next());
+
+            for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+                values[columnIndex] = toText(datas[columnIndex]);
+            }
+
+            writer.writeRow(values);
+        }
+
+        writer.finish();
+    }
+
+    /**
+     * CSV/TSV 파일 생성
+     *
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            row 단위 데이터 정보
+     * @param path
+     *            저장할 위치
+     * @param options
+     *            CSV 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static void create(@NotNull String[] headers, @NotNull Iterator<Object[]> datas, @NotNull Path path,
+            @NotNull CsvOptions options) throws IOException {
+        try (FileChannel channel = open(path)) {
+            create(headers, datas, channel, options);
+        }
+    }
+
+    /**
+     * CSV/TSV 데이터를 channel에 기록. channel은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     *
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            row 단위 데이터 정보
+     * @param channel
+     *            기록할 channel
+     * @param options
+     *            CSV 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static void create(@NotNull String[] headers, @NotNull Iterator<Object[]> datas,
+            @NotNull WritableByteChannel channel, @NotNull CsvOptions options) throws IOException {
+        CsvWriter writer = new CsvWriter(channel, options);
+
+        writer.writeRow(headers);
+
+        while (datas.hasNext()) {
+            Object[] data = datas.next();
+            String[] values = new String[data.length];
+
+            for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+                values[columnIndex] = toText(data[columnIndex]);
+            }
+
+            writer.writeRow(values);
+        }
+
+        writer.finish();
+    }
+
+    /**
+     * 값을 엑셀과 같은 형식의 문자열로 변환. 데이터가 없거나 공백일 경우 "-"
+     *
+     * @param data
+     *            컬럼 데이터
+     * @return 문자열
+     */
+    private static String toText(Object data) {
+        String text = ExcelValueType.toText(data);
+        return text.trim().length() == 0 ? ExcelValueType.EMPTY_TEXT : text;
+    }
+
+    /**
+     * 기록할 파일 열기. 파일이 있을 경우 덮어쓴다.
+     *
+     * @param path
+     *            저장할 위치
+     * @return 파일 channel
+     * @throws IOException
+     */
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path.normalize(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+}
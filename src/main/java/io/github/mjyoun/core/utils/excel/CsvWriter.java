@@ -0,0 +1,222 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 헤더와 row 데이터를 구분자로 나누어 channel에 기록하는 객체. <br>
+ * 문자를 buffer에 모아서 한번에 인코딩하며, buffer는 처음 생성한 것을 계속 재사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class CsvWriter {
+
+    /** 기록할 channel */
+    private final WritableByteChannel channel;
+    /** 구분자 */
+    private final char delimiter;
+    /** 따옴표 문자 */
+    private final char quote;
+    /** 따옴표로 감싸는 방법 */
+    private final CsvQuoting quoting;
+    /** 줄바꿈 문자 */
+    private final String lineSeparator;
+    /** 문자셋 인코더 */
+    private final CharsetEncoder encoder;
+    /** 인코딩 전 문자 buffer */
+    private final CharBuffer chars;
+    /** 인코딩된 byte buffer */
+    private final ByteBuffer bytes;
+
+    /**
+     * @param channel
+     *            기록할 channel
+     * @param options
+     *            CSV 생성 설정
+     */
+    CsvWriter(@NotNull WritableByteChannel channel, @NotNull CsvOptions options) {
+        this.channel = channel;
+        this.delimiter = options.getDelimiter();
+        this.quote = options.getQuote();
+        this.quoting = options.getQuoting();
+        this.lineSeparator = options.getLineSeparator();
+        this.encoder = options.getCharset().newEncoder() //
+                .onMalformedInput(CodingErrorAction.REPLACE) //
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate(options.getBufferSize());
+        this.bytes = ByteBuffer.allocate((int) Math.ceil(options.getBufferSize() * this.encoder.maxBytesPerChar()));
+
+        if (options.isBom()) {
+            this.chars.put('\uFEFF');
+        }
+    }
+
+    /**
+     * row 하나 기록
+     *
+     * @param values
+     *            컬럼 순서대로 정렬된 값
+     * @throws IOException
+     *             channel 기록 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void writeRow(@NotNull String[] values) throws IOException {
+        for (int columnIndex = 0; columnIndex < values.length; columnIndex++) {
+            if (columnIndex > 0) {
+                this.append(this.delimiter);
+            }
+
+            this.writeValue(values[columnIndex]);
+        }
+
+        this.append(this.lineSeparator);
+    }
+
+    /**
+     * buffer에 남은 문자를 모두 인코딩하여 기록
+     *
+     * @throws IOException
+     *             channel 기록 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void finish() throws IOException {
+        this.encode(true);
+
+        while (this.encoder.flush(this.bytes).isOverflow()) {
+            this.writeBytes();
+        }
+
+        this.writeBytes();
+    }
+
+    /**
+     * 값 하나 기록. 설정에 따라 따옴표로 감싼다.
+     *
+     * @param value
+     *            값
+     */
+    private void writeValue(String value) throws IOException {
+        boolean quoted;
+
+        switch (this.quoting) {
+            case ALL:
+                quoted = true;
+                break;
+            case NONE:
+                quoted = false;
+                break;
+            default:
+                quoted = this.needsQuote(value);
+                break;
+        }
+
+        if (!quoted) {
+            this.append(value);
+            return;
+        }
+
+        this.append(this.quote);
+
+        int start = 0;
+
+        for (int charIndex = value.indexOf(this.quote); charIndex >= 0; charIndex = value.indexOf(this.quote, start)) {
+            // 따옴표는 두번 기록
+            this.append(value, start, charIndex + 1);
+            this.append(this.quote);
+            start = charIndex + 1;
+        }
+
+        this.append(value, start, value.length());
+        this.append(this.quote);
+    }
+
+    /**
+     * @param value
+     *            값
+     * @return 구분자, 따옴표, 줄바꿈 문자가 포함되어 있을 경우 true
+     */
+    private boolean needsQuote(String value) {
+        for (int charIndex = 0; charIndex < value.length(); charIndex++) {
+            char ch = value.charAt(charIndex);
+
+            if (ch == this.delimiter || ch == this.quote || ch == '\n' || ch == '\r') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void append(char ch) throws IOException {
+        if (!this.chars.hasRemaining()) {
+            this.encode(false);
+        }
+
+        this.chars.put(ch);
+    }
+
+    private void append(String value) throws IOException {
+        this.append(value, 0, value.length());
+    }
+
+    private void append(String value, int start, int end) throws IOException {
+        while (start < end) {
+            if (!this.chars.hasRemaining()) {
+                this.encode(false);
+            }
+
+            int length = Math.min(end - start, this.chars.remaining());
+            this.chars.put(value, start, start + length);
+            start += length;
+        }
+    }
+
+    /**
+     * 문자 buffer를 인코딩하여 channel에 기록. 다음 문자와 이어지는 surrogate 문자는 buffer에 남긴다.
+     *
+     * @param endOfInput
+     *            마지막 인코딩 여부
+     */
+    private void encode(boolean endOfInput) throws IOException {
+        this.chars.flip();
+
+        CoderResult result;
+
+        while ((result = this.encoder.encode(this.chars, this.bytes, endOfInput)).isOverflow()) {
+            this.writeBytes();
+        }
+
+        if (result.isError()) {
+            result.throwException();
+        }
+
+        this.chars.compact();
+        this.writeBytes();
+    }
+
+    /**
+     * 인코딩된 byte를 channel에 기록
+     */
+    private void writeBytes() throws IOException {
+        this.bytes.flip();
+
+        while (this.bytes.hasRemaining()) {
+            this.channel.write(this.bytes);
+        }
+
+        this.bytes.clear();
+    }
+
+}
@@ -0,0 +1,583 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+
+import jakarta.validation.constraints.NotNull;
+
+import io.github.mjyoun.core.utils.excel.ExcelPagedSource.PageFetcher;
+
+/**
+ * 오래 걸리는 엑셀/CSV 생성을 중간 결과 파일로 나누어 기록하고, 중단된 경우 마지막 중간 결과부터 이어서 생성하는 객체. <br>
+ * 페이지 단위로 조회한 데이터를 지정한 페이지 개수마다 작업 디렉토리의 part 파일로 기록하고, 다음에 조회할 페이지 위치를 manifest 파일에 함께 저장한다. 프로세스가 종료된 후
+ * 같은 작업 디렉토리로 다시 실행하면, 이미 기록한 페이지는 다시 조회하지 않고 다음 페이지부터 조회한다. <br>
+ * 모든 페이지를 조회한 후 part 파일을 순서대로 읽어 엑셀 또는 CSV 파일 하나로 생성한다. part 파일에는 cell 값을 타입과 함께 기록하므로, 생성할 때 다시 조회하거나 객체에서
+ * 값을 추출하지 않는다. <br>
+ * 작업 디렉토리 하나는 한 번에 하나의 객체에서만 사용해야 한다.
+ *
+ * <pre>
+ * ExcelCheckpointedExport&lt;Sample&gt; export = ExcelCheckpointedExport.builder(Sample.class, workDirectory, //
+ *         (page, size) -&gt; repository.findAll(PageRequest.of(page, size)).getContent()) //
+ *         .pageSize(1000) //
+ *         .pagesPerPart(100) //
+ *         .build();
+ *
+ * export.toExcel(path, ExcelOptions.DEFAULT);
+ * export.clear();
+ * </pre>
+ *
+ * @param <T>
+ *            데이터 클래스
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelCheckpointedExport<T> {
+
+    /** manifest 파일 이름 */
+    private static final String MANIFEST = "manifest.properties";
+    /** part 파일 이름 접두사 */
+    private static final String PART_PREFIX = "part-";
+    /** part 파일 확장자 */
+    private static final String PART_SUFFIX = ".bin";
+    /** 기록 중인 파일 확장자 */
+    private static final String TEMP_SUFFIX = ".tmp";
+    /** 파일 buffer 크기 */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** 클래스의 엑셀 정보 */
+    private final ExcelSheetModel<T> model;
+    /** 데이터 클래스 */
+    private final Class<T> type;
+    /** 작업 디렉토리 */
+    private final Path directory;
+    /** 페이지 조회 함수 */
+    private final PageFetcher<T> fetcher;
+    /** 페이지 크기 */
+    private final int pageSize;
+    /** part 파일 하나에 기록할 페이지 개수 */
+    private final int pagesPerPart;
+    /** 현재 진행 상태. 불러오기 전일 경우 null */
+    private Checkpoint checkpoint;
+
+    private ExcelCheckpointedExport(Builder<T> builder) {
+        this.model = ExcelSheetModel.of(builder.type);
+        this.type = builder.type;
+        this.directory = builder.directory.normalize();
+        this.fetcher = builder.fetcher;
+        this.pageSize = builder.pageSize;
+        this.pagesPerPart = builder.pagesPerPart;
+    }
+
+    /**
+     * 생성 객체 조회
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @param clazz
+     *            데이터 클래스
+     * @param directory
+     *            중간 결과를 기록할 작업 디렉토리. 없을 경우 생성한다.
+     * @param fetcher
+     *            페이지 조회 함수
+     * @return {@link Builder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> Builder<T> builder(@NotNull Class<T> clazz, @NotNull Path directory,
+            @NotNull PageFetcher<T> fetcher) {
+        return new Builder<>(clazz, directory, fetcher);
+    }
+
+    /**
+     * 마지막 중간 결과부터 마지막 페이지까지 조회하여 part 파일로 기록. 이미 모든 페이지를 조회한 경우 바로 반환한다.
+     *
+     * @return 기록한 전체 row 개수
+     * @throws IOException
+     *             중간 결과 기록 실패
+     * @throws IllegalStateException
+     *             작업 디렉토리의 중간 결과가 다른 설정으로 생성된 경우, 페이지 조회 중 checked exception이 발생한 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public long fetch() throws IOException {
+        Checkpoint checkpoint = this.load();
+
+        while (!checkpoint.complete) {
+            Path temp = this.directory.resolve(partName(checkpoint.parts) + TEMP_SUFFIX);
+            long rows = 0;
+            int pages = 0;
+            boolean last = false;
+
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                        DataOutputStream out = new DataOutputStream(
+                                new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE))) {
+                    while (pages < this.pagesPerPart && !last) {
+                        List<T> page = this.fetchPage(checkpoint.nextPage + pages);
+                        pages++;
+
+                        if (page != null) {
+                            for (T content : page) {
+                                ExcelRowCodec.writeRow(out, this.model.extract(content));
+                                rows++;
+                            }
+                        }
+
+                        last = page == null || page.size() < this.pageSize;
+                    }
+
+                    ExcelRowCodec.writeEnd(out);
+                    out.flush();
+                    channel.force(true);
+                }
+
+                if (rows > 0) {
+                    move(temp, this.directory.resolve(partName(checkpoint.parts)));
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+
+            Checkpoint next = new Checkpoint(checkpoint.nextPage + pages,
+                    rows > 0 ? checkpoint.parts + 1 : checkpoint.parts, checkpoint.rows + rows, last);
+
+            this.store(next);
+            checkpoint = next;
+        }
+
+        return checkpoint.rows;
+    }
+
+    /**
+     * 남은 페이지를 조회한 후, 중간 결과로 엑셀 파일 생성. 파일이 있을 경우 덮어쓴다. <br>
+     * 생성 후에도 중간 결과는 삭제하지 않으므로, 필요 없을 경우 {@link #clear()}로 삭제한다.
+     *
+     * @param path
+     *            저장할 위치
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     *             중간 결과 기록, 읽기 또는 파일 생성 실패
+     * @throws IllegalStateException
+     *             작업 디렉토리의 중간 결과가 다른 설정으로 생성된 경우, 페이지 조회 중 checked exception이 발생한 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public void toExcel(@NotNull Path path, @NotNull ExcelOptions options) throws IOException {
+        this.fetch();
+
+        try (OutputStream out = new FileOutputStream(path.normalize().toString())) {
+            ExcelUtils.export(ExcelSheetData.ofExtracted(this.model, new PartRows(this.checkpoint.parts), options),
+                    options, out);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 남은 페이지를 조회한 후, 중간 결과로 CSV/TSV 파일 생성. 파일이 있을 경우 덮어쓴다. <br>
+     * 생성 후에도 중간 결과는 삭제하지 않으므로, 필요 없을 경우 {@link #clear()}로 삭제한다.
+     *
+     * @param path
+     *            저장할 위치
+     * @param options
+     *            CSV 생성 설정
+     * @throws IOException
+     *             중간 결과 기록, 읽기 또는 파일 생성 실패
+     * @throws IllegalStateException
+     *             작업 디렉토리의 중간 결과가 다른 설정으로 생성된 경우, 페이지 조회 중 checked exception이 발생한 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public void toCsv(@NotNull Path path, @NotNull CsvOptions options) throws IOException {
+        this.fetch();
+
+        try (PartRows rows = new PartRows(this.checkpoint.parts)) {
+            CsvUtils.create(this.model.getHeaders(), rows, path, options);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return 중간 결과로 기록한 row 개수
+     * @throws IOException
+     *             중간 결과 읽기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public long getCheckpointedRows() throws IOException {
+        return this.load().rows;
+    }
+
+    /**
+     * @return 마지막 페이지까지 조회했을 경우 true
+     * @throws IOException
+     *             중간 결과 읽기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public boolean isComplete() throws IOException {
+        return this.load().complete;
+    }
+
+    /**
+     * 작업 디렉토리의 manifest 파일과 part 파일 삭제. 이후 호출하면 처음 페이지부터 다시 조회한다.
+     *
+     * @throws IOException
+     *             삭제 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public void clear() throws IOException {
+        this.checkpoint = null;
+
+        if (!Files.isDirectory(this.directory)) {
+            return;
+        }
+
+        // 진행 상태가 남아 있지 않도록 manifest 파일을 먼저 삭제한다.
+        Files.deleteIfExists(this.directory.resolve(MANIFEST));
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, PART_PREFIX + "*")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * 페이지 조회. checked exception은 {@link IllegalStateException}으로 변환한다.
+     */
+    private List<T> fetchPage(int pageIndex) {
+        try {
+            return this.fetcher.fetch(pageIndex, this.pageSize);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("페이지 데이터 조회에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 진행 상태 조회. 처음 호출할 때 작업 디렉토리의 manifest 파일을 읽고, 기록이 끝나지 않은 파일을 삭제한다.
+     *
+     * @return 진행 상태
+     */
+    private Checkpoint load() throws IOException {
+        if (this.checkpoint != null) {
+            return this.checkpoint;
+        }
+
+        Files.createDirectories(this.directory);
+
+        try (DirectoryStream<Path> temps = Files.newDirectoryStream(this.directory, "*" + TEMP_SUFFIX)) {
+            for (Path temp : temps) {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        Path manifest = this.directory.resolve(MANIFEST);
+
+        if (!Files.exists(manifest)) {
+            this.checkpoint = new Checkpoint(0, 0, 0, false);
+            return this.checkpoint;
+        }
+
+        Properties properties = new Properties();
+
+        try (InputStream in = Files.newInputStream(manifest)) {
+            properties.load(in);
+        }
+
+        this.check(properties, "type", this.type.getName());
+        this.check(properties, "headers", String.valueOf(Arrays.hashCode(this.model.getHeaders())));
+        this.check(properties, "pageSize", String.valueOf(this.pageSize));
+
+        Checkpoint loaded = new Checkpoint(Integer.parseInt(properties.getProperty("nextPage")),
+                Integer.parseInt(properties.getProperty("parts")), Long.parseLong(properties.getProperty("rows")),
+                Boolean.parseBoolean(properties.getProperty("complete")));
+
+        for (int partIndex = 0; partIndex < loaded.parts; partIndex++) {
+            if (!Files.isRegularFile(this.directory.resolve(partName(partIndex)))) {
+                throw new IllegalStateException(MessageFormat.format("중간 결과 파일이 없습니다. [directory: {0}, part: {1}]",
+                        this.directory, partName(partIndex)));
+            }
+        }
+
+        this.checkpoint = loaded;
+        return loaded;
+    }
+
+    /**
+     * manifest 파일의 값이 현재 설정과 같은지 확인
+     *
+     * @throws IllegalStateException
+     *             다를 경우
+     */
+    private void check(Properties properties, String key, String expected) {
+        String actual = properties.getProperty(key);
+
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException(MessageFormat.format(
+                    "다른 설정으로 생성된 중간 결과입니다. [directory: {0}, key: {1}, expected: {2}, actual: {3}]", this.directory, key,
+                    expected, actual));
+        }
+    }
+
+    /**
+     * 진행 상태를 manifest 파일에 기록. 임시 파일에 기록한 후 교체하여, 기록 중 종료되어도 이전 상태가 유지되도록 한다.
+     *
+     * @param checkpoint
+     *            진행 상태
+     */
+    private void store(Checkpoint checkpoint) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("type", this.type.getName());
+        properties.setProperty("headers", String.valueOf(Arrays.hashCode(this.model.getHeaders())));
+        properties.setProperty("pageSize", String.valueOf(this.pageSize));
+        properties.setProperty("nextPage", String.valueOf(checkpoint.nextPage));
+        properties.setProperty("parts", String.valueOf(checkpoint.parts));
+        properties.setProperty("rows", String.valueOf(checkpoint.rows));
+        properties.setProperty("complete", String.valueOf(checkpoint.complete));
+
+        Path temp = this.directory.resolve(MANIFEST + TEMP_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = Channels.newOutputStream(channel);
+
+                properties.store(out, null);
+                out.flush();
+                channel.force(true);
+            }
+
+            move(temp, this.directory.resolve(MANIFEST));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * @param partIndex
+     *            part 파일 순번
+     * @return part 파일 이름
+     */
+    private static String partName(int partIndex) {
+        return PART_PREFIX + String.format("%05d", partIndex) + PART_SUFFIX;
+    }
+
+    /**
+     * 파일 교체. 가능할 경우 원자적으로 교체한다.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 진행 상태
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static class Checkpoint {
+
+        /** 다음에 조회할 페이지 순번 */
+        private final int nextPage;
+        /** 기록한 part 파일 개수 */
+        private final int parts;
+        /** 기록한 row 개수 */
+        private final long rows;
+        /** 마지막 페이지까지 조회했는지 여부 */
+        private final boolean complete;
+
+        Checkpoint(int nextPage, int parts, long rows, boolean complete) {
+            this.nextPage = nextPage;
+            this.parts = parts;
+            this.rows = rows;
+            this.complete = complete;
+        }
+
+    }
+
+    /**
+     * part 파일을 순서대로 읽어 row 데이터를 반환하는 iterator. 읽기 실패는 {@link UncheckedIOException}으로 던진다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private class PartRows implements Iterator<Object[]>, AutoCloseable {
+
+        /** part 파일 개수 */
+        private final int parts;
+        /** 다음에 열 part 파일 순번 */
+        private int partIndex;
+        /** 읽고 있는 part 파일. 없을 경우 null */
+        private DataInputStream in;
+        /** 다음에 반환할 row. 조회 전이거나 반환한 경우 null */
+        private Object[] next;
+
+        PartRows(int parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (this.next == null) {
+                    if (this.in == null) {
+                        if (this.partIndex >= this.parts) {
+                            return false;
+                        }
+
+                        Path part = ExcelCheckpointedExport.this.directory.resolve(partName(this.partIndex++));
+                        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(part), BUFFER_SIZE));
+                    }
+
+                    this.next = ExcelRowCodec.readRow(this.in);
+
+                    if (this.next == null) {
+                        this.in.close();
+                        this.in = null;
+                    }
+                }
+
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Object[] next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Object[] row = this.next;
+            this.next = null;
+
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.in != null) {
+                this.in.close();
+                this.in = null;
+            }
+
+            this.partIndex = this.parts;
+        }
+
+    }
+
+    /**
+     * {@link ExcelCheckpointedExport} 생성 객체
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static class Builder<T> {
+
+        /** 데이터 클래스 */
+        private final Class<T> type;
+        /** 작업 디렉토리 */
+        private final Path directory;
+        /** 페이지 조회 함수 */
+        private final PageFetcher<T> fetcher;
+        /** 페이지 크기 */
+        private int pageSize = 1000;
+        /** part 파일 하나에 기록할 페이지 개수 */
+        private int pagesPerPart = 100;
+
+        private Builder(Class<T> type, Path directory, PageFetcher<T> fetcher) {
+            this.type = type;
+            this.directory = directory;
+            this.fetcher = fetcher;
+        }
+
+        /**
+         * @param pageSize
+         *            페이지 크기. 중간 결과가 있을 경우 같은 크기로 이어서 조회해야 한다. default 1000
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder<T> pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException(
+                        MessageFormat.format("페이지 크기는 1 이상이어야 합니다. [pageSize: {0}]", String.valueOf(pageSize)));
+            }
+
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * @param pagesPerPart
+         *            part 파일 하나에 기록할 페이지 개수. 중단된 경우 마지막 part 파일 이후의 페이지만 다시 조회한다. default 100
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder<T> pagesPerPart(int pagesPerPart) {
+            if (pagesPerPart < 1) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "part 파일당 페이지 개수는 1 이상이어야 합니다. [pagesPerPart: {0}]", String.valueOf(pagesPerPart)));
+            }
+
+            this.pagesPerPart = pagesPerPart;
+            return this;
+        }
+
+        /**
+         * 생성
+         *
+         * @return {@link ExcelCheckpointedExport}
+         */
+        public ExcelCheckpointedExport<T> build() {
+            return new ExcelCheckpointedExport<>(this);
+        }
+
+    }
+
+}
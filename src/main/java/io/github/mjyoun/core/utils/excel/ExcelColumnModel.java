@@ -0,0 +1,261 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.text.MessageFormat;
+
+import jakarta.validation.constraints.NotNull;
+
+import io.github.mjyoun.core.utils.excel.annotation.ExcelColumn;
+
+/**
+ * 엑셀 컬럼 하나의 정보. <br>
+ * 헤더 이름과 데이터를 읽고 쓰는 {@link MethodHandle}을 미리 만들어 두어, row마다 annotation 조회나 접근 권한 변경을 하지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+final class ExcelColumnModel {
+
+    /** 헤더 이름 */
+    private final String header;
+    /** 데이터 타입 */
+    private final Class<?> type;
+    /** 사용자 정의 style 이름. nullable */
+    private final String styleName;
+    /** 지정 width (글자 수). 0 이하일 경우 지정하지 않음 */
+    private final int width;
+    /** 값의 종류가 적은 컬럼 여부. 문자열을 공유 문자열 목록에 저장한다. */
+    private final boolean lowCardinality;
+    /** 데이터 조회 함수. (Object)Object 형태 */
+    private final MethodHandle getter;
+    /** 데이터 저장 함수. (Object, Object)void 형태. 저장할 수 없는 필드일 경우 null */
+    private final MethodHandle setter;
+    /** 하위 객체의 컬럼일 경우, 하위 객체를 조회하는 상위 컬럼. nullable */
+    private final ExcelColumnModel parent;
+
+    private ExcelColumnModel(String header, Class<?> type, String styleName, int width, boolean lowCardinality,
+            MethodHandle getter, MethodHandle setter, ExcelColumnModel parent) {
+        this.header = header;
+        this.type = type;
+        this.styleName = styleName;
+        this.width = width;
+        this.lowCardinality = lowCardinality;
+        this.getter = getter;
+        this.setter = setter;
+        this.parent = parent;
+    }
+
+    /**
+     * 필드로 부터 컬럼 정보 생성
+     *
+     * @param field
+     *            필드 정보
+     * @param excelInfo
+     *            필드의 {@link ExcelColumn} 정보. nullable
+     * @return 컬럼 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static ExcelColumnModel of(@NotNull Field field, ExcelColumn excelInfo) {
+        try {
+            // 필드 객체는 조회할 때마다 복사본이 생성되므로, 접근 권한은 한번만 변경하고 되돌리지 않는다.
+            field.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup() //
+                    .unreflectGetter(field) //
+                    .asType(MethodType.methodType(Object.class, Object.class));
+
+            return of(field.getName(), field.getType(), excelInfo, getter, setter(field));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(MessageFormat.format("필드에 접근할 수 없습니다. [field: {0}]", field), e);
+        }
+    }
+
+    /**
+     * getter(record의 accessor 포함)로 부터 컬럼 정보 생성
+     *
+     * @param method
+     *            인자가 없는 getter 정보
+     * @param name
+     *            컬럼 기본 이름. 속성 이름
+     * @param field
+     *            값을 저장할 같은 이름의 필드. nullable
+     * @param excelInfo
+     *            getter의 {@link ExcelColumn} 정보. nullable
+     * @return 컬럼 정보
+     * @throws IllegalArgumentException
+     *             인자가 있거나 반환 타입이 없는 메소드일 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static ExcelColumnModel of(@NotNull Method method, @NotNull String name, Field field, ExcelColumn excelInfo) {
+        if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+            throw new IllegalArgumentException(
+                    MessageFormat.format("컬럼 getter는 인자가 없고 반환 값이 있어야 합니다. [method: {0}]", method));
+        }
+
+        try {
+            method.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup() //
+                    .unreflect(method) //
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            MethodHandle setter = null;
+
+            if (field != null && field.getType() == method.getReturnType()) {
+                field.setAccessible(true);
+                setter = setter(field);
+            }
+
+            return of(name, method.getReturnType(), excelInfo, getter, setter);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(MessageFormat.format("메소드에 접근할 수 없습니다. [method: {0}]", method), e);
+        }
+    }
+
+    /**
+     * 컬럼 정보 생성
+     *
+     * @param name
+     *            컬럼 기본 이름
+     * @param type
+     *            데이터 타입
+     * @param excelInfo
+     *            {@link ExcelColumn} 정보. nullable
+     * @param getter
+     *            데이터 조회 함수
+     * @param setter
+     *            데이터 저장 함수. nullable
+     * @return 컬럼 정보
+     */
+    private static ExcelColumnModel of(String name, Class<?> type, ExcelColumn excelInfo, MethodHandle getter,
+            MethodHandle setter) {
+        String header = name;
+        String styleName = null;
+
+        if (excelInfo != null && excelInfo.value().trim().length() != 0) {
+            header = excelInfo.value();
+        }
+
+        if (excelInfo != null && excelInfo.style().trim().length() != 0) {
+            styleName = excelInfo.style();
+        }
+
+        return new ExcelColumnModel(header, type, styleName, excelInfo == null ? 0 : excelInfo.width(),
+                excelInfo != null && excelInfo.lowCardinality(), getter, setter, null);
+    }
+
+    /**
+     * 하위 객체의 컬럼을 상위 컬럼 아래로 펼친 컬럼 정보 생성. 헤더는 "상위 컬럼 이름.하위 컬럼 이름"이 된다.
+     *
+     * @param outer
+     *            하위 객체를 조회하는 상위 컬럼
+     * @return 펼친 컬럼 정보. 값을 저장할 수 없다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    ExcelColumnModel nestedIn(@NotNull ExcelColumnModel outer) {
+        ExcelColumnModel parent = this.parent == null ? outer : this.parent.nestedIn(outer);
+
+        return new ExcelColumnModel(outer.header + "." + this.header, this.type, this.styleName, this.width,
+                this.lowCardinality, this.getter, null, parent);
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public String getStyleName() {
+        return styleName;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public boolean isLowCardinality() {
+        return lowCardinality;
+    }
+
+    /**
+     * @return 객체에 컬럼 데이터를 저장할 수 있는지 여부
+     */
+    boolean isWritable() {
+        return this.setter != null;
+    }
+
+    /**
+     * 객체에서 컬럼 데이터 조회. 하위 객체의 컬럼은 상위 컬럼부터 차례로 조회한다.
+     *
+     * @param content
+     *            데이터 객체
+     * @return 컬럼 데이터
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    Object get(@NotNull Object content) {
+        Object target = content;
+
+        // 하위 객체가 없을 경우 데이터 없음
+        if (this.parent != null && (target = this.parent.get(content)) == null) {
+            return null;
+        }
+
+        try {
+            return (Object) this.getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(MessageFormat.format("컬럼 데이터를 조회할 수 없습니다. [column: {0}]", this.header), e);
+        }
+    }
+
+    /**
+     * 객체에 컬럼 데이터 저장
+     *
+     * @param content
+     *            데이터 객체
+     * @param data
+     *            컬럼 데이터. 필드 타입으로 변환된 값
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void set(@NotNull Object content, Object data) {
+        try {
+            this.setter.invokeExact(content, data);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(MessageFormat.format("컬럼 데이터를 저장할 수 없습니다. [column: {0}]", this.header), e);
+        }
+    }
+
+    /**
+     * 필드의 데이터 저장 함수 생성
+     *
+     * @param field
+     *            접근 권한을 변경한 필드 정보
+     * @return 데이터 저장 함수. record의 필드처럼 값을 변경할 수 없을 경우 null
+     */
+    private static MethodHandle setter(Field field) {
+        try {
+            return MethodHandles.lookup() //
+                    .unreflectSetter(field) //
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+}
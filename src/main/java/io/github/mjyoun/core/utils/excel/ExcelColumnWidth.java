@@ -0,0 +1,19 @@
+package io.github.mjyoun.core.utils.excel;
+
+/**
+ * 컬럼 width 설정 방법. <br>
+ * 폰트 정보로 cell마다 크기를 계산하지 않고, 컬럼별 최대 글자 수로 width를 추정한다. 한글 등 전각 문자는 2글자로 계산한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public enum ExcelColumnWidth {
+
+    /** width를 설정하지 않는다. {@link io.github.mjyoun.core.utils.excel.annotation.ExcelColumn#width()}만 적용한다. */
+    NONE,
+    /** 헤더와 모든 데이터의 최대 글자 수로 width를 설정한다. */
+    ESTIMATE,
+    /** 헤더와 시트마다 처음 일부 데이터의 최대 글자 수로 width를 설정한다. 표본 개수는 {@link ExcelOptions#getWidthSampleRows()} */
+    SAMPLE;
+
+}
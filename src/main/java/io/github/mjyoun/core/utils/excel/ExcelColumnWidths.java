@@ -0,0 +1,140 @@
+package io.github.mjyoun.core.utils.excel;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * 시트 하나의 컬럼별 최대 글자 수를 모아서 width를 설정하는 객체. <br>
+ * 기록하는 데이터의 글자 수만 비교하므로, {@link org.apache.poi.xssf.streaming.SXSSFSheet#trackAllColumnsForAutoSizing()}와 달리 폰트
+ * 정보가 필요하지 않다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelColumnWidths {
+
+    /** 엑셀 컬럼 최대 width (글자 수) */
+    private static final int MAX_WIDTH = 255;
+    /** 글자 수에 더하는 여백. 헤더의 필터 버튼 크기를 포함한다. */
+    private static final int PADDING = 3;
+
+    /** 컬럼별 지정 width (글자 수). 0 이하일 경우 추정한 width 사용. nullable */
+    private final int[] fixedWidths;
+    /** 글자 수를 확인할 최대 데이터 row 개수 */
+    private final int sampleRows;
+    /** 컬럼별 최대 글자 수 */
+    private final int[] maxLengths;
+    /** 글자 수를 확인한 데이터 row 개수 */
+    private int measuredRows;
+
+    /**
+     * @param columnCount
+     *            컬럼 개수
+     * @param fixedWidths
+     *            컬럼별 지정 width (글자 수). nullable
+     * @param options
+     *            엑셀 생성 설정
+     */
+    ExcelColumnWidths(int columnCount, int[] fixedWidths, @NotNull ExcelOptions options) {
+        this.fixedWidths = fixedWidths;
+        this.maxLengths = new int[columnCount];
+
+        switch (options.getColumnWidth()) {
+            case ESTIMATE:
+                this.sampleRows = Integer.MAX_VALUE;
+                break;
+            case SAMPLE:
+                this.sampleRows = options.getWidthSampleRows();
+                break;
+            default:
+                this.sampleRows = -1;
+                break;
+        }
+    }
+
+    /**
+     * 헤더 글자 수 확인
+     *
+     * @param headers
+     *            헤더 정보
+     */
+    void measureHeader(@NotNull String[] headers) {
+        if (this.sampleRows >= 0) {
+            this.measure(headers);
+        }
+    }
+
+    /**
+     * 데이터 row 글자 수 확인. 표본 개수를 넘은 row는 확인하지 않는다.
+     *
+     * @param datas
+     *            한 row의 데이터 정보
+     */
+    void measureRow(@NotNull Object[] datas) {
+        if (this.measuredRows < this.sampleRows) {
+            this.measuredRows++;
+            this.measure(datas);
+        }
+    }
+
+    /**
+     * 시트에 컬럼 width 설정
+     *
+     * @param sheet
+     *            기록 중인 시트
+     */
+    void apply(@NotNull Sheet sheet) {
+        for (int columnIndex = 0; columnIndex < this.maxLengths.length; columnIndex++) {
+            int width;
+
+            if (this.fixedWidths != null && columnIndex < this.fixedWidths.length && this.fixedWidths[columnIndex] > 0) {
+                width = this.fixedWidths[columnIndex];
+            } else if (this.sampleRows >= 0 && this.maxLengths[columnIndex] > 0) {
+                width = this.maxLengths[columnIndex] + PADDING;
+            } else {
+                continue;
+            }
+
+            // 엑셀의 width 단위는 1/256 글자
+            sheet.setColumnWidth(columnIndex, Math.min(width, MAX_WIDTH) * 256);
+        }
+    }
+
+    /**
+     * 컬럼별 최대 글자 수 갱신
+     *
+     * @param datas
+     *            한 row의 데이터 정보
+     */
+    private void measure(Object[] datas) {
+        int columnCount = Math.min(datas.length, this.maxLengths.length);
+
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            int length = length(datas[columnIndex]);
+
+            if (length > this.maxLengths[columnIndex]) {
+                this.maxLengths[columnIndex] = length;
+            }
+        }
+    }
+
+    /**
+     * 데이터가 표시될 글자 수 계산. 전각 문자는 2글자로 계산한다.
+     *
+     * @param data
+     *            데이터
+     * @return 글자 수
+     */
+    private static int length(Object data) {
+        CharSequence text = data instanceof CharSequence ? (CharSequence) data : ExcelValueType.toText(data);
+        int length = 0;
+
+        for (int charIndex = 0; charIndex < text.length(); charIndex++) {
+            length += text.charAt(charIndex) < 0x1100 ? 1 : 2;
+        }
+
+        return length;
+    }
+
+}
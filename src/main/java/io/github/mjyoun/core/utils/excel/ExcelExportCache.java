@@ -0,0 +1,627 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 생성한 엑셀 파일을 디렉토리에 보관하고, 같은 데이터로 다시 요청할 경우 파일을 새로 만들지 않고 보관한 파일을 전달하는 객체. <br>
+ * 파일은 시트 이름, 헤더, 데이터, 결과에 영향을 주는 설정의 SHA-256 hash(또는 호출한 쪽이 지정한 key와 version)로 구분한다. 보관 용량을 넘으면 가장 오래 사용하지
+ * 않은 파일부터 삭제하며, 보관한 파일은 {@link FileChannel#transferTo(long, long, WritableByteChannel)}로 전달하여 가능한 경우 메모리 복사 없이
+ * 기록한다. <br>
+ * 데이터 hash를 계산하기 위해 데이터를 한번 더 순회하므로, 반복해서 순회할 수 있는 데이터만 사용할 수 있다. {@link ExcelOptions#getStyles()}의 style 설정은 hash에
+ * 포함하지 않으므로, 같은 데이터를 다른 style로 생성할 경우 key를 지정해야 한다.
+ *
+ * <pre>
+ * ExcelExportCache cache = new ExcelExportCache(Paths.get("/var/cache/excel"), 1024L * 1024 * 1024);
+ *
+ * cache.create(contents, Sample.class, response.getOutputStream(), ExcelOptions.DEFAULT);
+ * cache.create("daily-report", reportVersion,
+ *         out -&gt; ExcelUtils.create(repository.findAll().iterator(), Sample.class, out, ExcelOptions.DEFAULT),
+ *         response.getOutputStream());
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelExportCache {
+
+    /** 보관 파일 확장자 */
+    private static final String SUFFIX = ".xlsx";
+    /** 생성 중인 파일 확장자 */
+    private static final String TEMP_SUFFIX = ".tmp";
+    /** 같은 파일을 동시에 생성하지 않도록 사용하는 lock 개수 */
+    private static final int LOCK_STRIPES = 64;
+
+    /** 보관 디렉토리 */
+    private final Path directory;
+    /** 최대 보관 용량 (byte) */
+    private final long maxBytes;
+    /** 보관 파일 이름(hash)별 크기. 사용한 순서로 정렬된다. */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** 파일 이름별 생성 lock */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    /** 보관 중인 파일 전체 크기 (byte) */
+    private long totalBytes;
+    /** 보관한 파일을 전달한 횟수 */
+    private long hitCount;
+    /** 파일을 새로 생성한 횟수 */
+    private long missCount;
+
+    /**
+     * 보관 디렉토리를 생성하거나, 이미 보관 중인 파일을 최근 수정 시간 순서로 다시 등록한다. 생성 중 종료되어 남은 파일은 삭제한다.
+     *
+     * @param directory
+     *            보관 디렉토리. 다른 파일과 함께 사용하지 않는 디렉토리여야 한다.
+     * @param maxBytes
+     *            최대 보관 용량 (byte). 이보다 큰 파일은 보관하지 않는다.
+     * @throws IllegalArgumentException
+     *             최대 보관 용량이 1 미만일 경우
+     * @throws IOException
+     *             디렉토리 생성, 조회 실패
+     */
+    public ExcelExportCache(@NotNull Path directory, long maxBytes) throws IOException {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException(
+                    MessageFormat.format("최대 보관 용량은 1 이상이어야 합니다. [maxBytes: {0}]", String.valueOf(maxBytes)));
+        }
+
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+
+        for (int lockIndex = 0; lockIndex < LOCK_STRIPES; lockIndex++) {
+            this.locks[lockIndex] = new Object();
+        }
+
+        Files.createDirectories(directory);
+        this.load();
+    }
+
+    /**
+     * @return 보관 중인 파일 개수
+     */
+    public synchronized int getEntryCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * @return 보관 중인 파일 전체 크기 (byte)
+     */
+    public synchronized long getSize() {
+        return this.totalBytes;
+    }
+
+    /**
+     * @return 보관한 파일을 전달한 횟수
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * @return 파일을 새로 생성한 횟수
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * 클래스 정보와 데이터로 생성한 엑셀 파일을 stream에 기록. 보관한 파일이 없을 경우 생성하여 보관한다. <br>
+     * stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     *
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보. hash 계산과 생성을 위해 두번 순회한다.
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param out
+     *            기록할 stream
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public <T> void create(@NotNull Iterable<T> contents, @NotNull Class<T> clazz, @NotNull OutputStream out,
+            @NotNull ExcelOptions options) throws IOException {
+        this.create(contents, clazz, channel(out), options);
+    }
+
+    /**
+     * 클래스 정보와 데이터로 생성한 엑셀 파일을 channel에 기록. 보관한 파일이 없을 경우 생성하여 보관한다. <br>
+     * channel은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     *
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보. hash 계산과 생성을 위해 두번 순회한다.
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param channel
+     *            기록할 channel. 파일, socket channel일 경우 메모리 복사 없이 기록한다.
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public <T> void create(@NotNull Iterable<T> contents, @NotNull Class<T> clazz,
+            @NotNull WritableByteChannel channel, @NotNull ExcelOptions options) throws IOException {
+        ExcelSheetModel<T> model = ExcelSheetModel.of(clazz);
+        Digest digest = new Digest("class");
+        digest.update(clazz.getName());
+        digest.update(model.getSheetName());
+        digest.update(model.getHeaders());
+        digest.update(options);
+
+        for (T content : contents) {
+            digest.update(model.extract(content));
+        }
+
+        this.serve(digest.name(), out -> ExcelUtils.create(contents.iterator(), clazz, out, options), channel);
+    }
+
+    /**
+     * 헤더, 데이터로 생성한 엑셀 파일을 stream에 기록. 보관한 파일이 없을 경우 생성하여 보관한다. <br>
+     * stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     *
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            데이터 정보
+     * @param sheetName
+     *            시트 이름
+     * @param out
+     *            기록할 stream
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public void create(@NotNull String[] headers, @NotNull Object[][] datas, @NotNull String sheetName,
+            @NotNull OutputStream out, @NotNull ExcelOptions options) throws IOException {
+        this.create(headers, datas, sheetName, channel(out), options);
+    }
+
+    /**
+     * 헤더, 데이터로 생성한 엑셀 파일을 channel에 기록. 보관한 파일이 없을 경우 생성하여 보관한다. <br>
+     * channel은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     *
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            데이터 정보
+     * @param sheetName
+     *            시트 이름
+     * @param channel
+     *            기록할 channel. 파일, socket channel일 경우 메모리 복사 없이 기록한다.
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public void create(@NotNull String[] headers, @NotNull Object[][] datas, @NotNull String sheetName,
+            @NotNull WritableByteChannel channel, @NotNull ExcelOptions options) throws IOException {
+        Digest digest = new Digest("rows");
+        digest.update(sheetName);
+        digest.update(headers);
+        digest.update(options);
+
+        for (Object[] data : datas) {
+            digest.update(data);
+        }
+
+        this.serve(digest.name(),
+                out -> ExcelUtils.create(headers, Arrays.asList(datas).iterator(), sheetName, out, options), channel);
+    }
+
+    /**
+     * 지정한 key, version으로 보관한 엑셀 파일을 stream에 기록. 보관한 파일이 없을 경우 생성하여 보관한다. <br>
+     * 데이터가 변경된 경우 version을 변경하여 새로 생성한다. 이전 version의 파일은 사용하지 않으므로 보관 용량을 넘을 때 삭제된다. <br>
+     * stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     *
+     * @param key
+     *            파일 구분 key
+     * @param version
+     *            데이터 version
+     * @param generator
+     *            보관한 파일이 없을 경우 엑셀 파일을 생성하는 함수
+     * @param out
+     *            기록할 stream
+     * @throws IOException
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public void create(@NotNull String key, long version, @NotNull Generator generator, @NotNull OutputStream out)
+            throws IOException {
+        this.create(key, version, generator, channel(out));
+    }
+
+    /**
+     * 지정한 key, version으로 보관한 엑셀 파일을 channel에 기록. 보관한 파일이 없을 경우 생성하여 보관한다. <br>
+     * 데이터가 변경된 경우 version을 변경하여 새로 생성한다. 이전 version의 파일은 사용하지 않으므로 보관 용량을 넘을 때 삭제된다. <br>
+     * channel은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     *
+     * @param key
+     *            파일 구분 key
+     * @param version
+     *            데이터 version
+     * @param generator
+     *            보관한 파일이 없을 경우 엑셀 파일을 생성하는 함수
+     * @param channel
+     *            기록할 channel. 파일, socket channel일 경우 메모리 복사 없이 기록한다.
+     * @throws IOException
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public void create(@NotNull String key, long version, @NotNull Generator generator,
+            @NotNull WritableByteChannel channel) throws IOException {
+        Digest digest = new Digest("key");
+        digest.update(key);
+        digest.update(Long.toString(version));
+
+        this.serve(digest.name(), generator, channel);
+    }
+
+    /**
+     * 보관 중인 파일 모두 삭제. 전달 중인 파일은 전달이 끝난 후 삭제될 수 있다.
+     *
+     * @throws IOException
+     *             파일 삭제 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public void clear() throws IOException {
+        List<String> names;
+
+        synchronized (this) {
+            names = new ArrayList<>(this.entries.keySet());
+            this.entries.clear();
+            this.totalBytes = 0;
+        }
+
+        for (String name : names) {
+            Files.deleteIfExists(this.directory.resolve(name + SUFFIX));
+        }
+    }
+
+    /**
+     * 보관한 파일을 channel에 기록. 없을 경우 생성하여 보관한 후 기록한다.
+     *
+     * @param name
+     *            파일 이름 (hash)
+     * @param generator
+     *            엑셀 파일 생성 함수
+     * @param channel
+     *            기록할 channel
+     */
+    private void serve(String name, Generator generator, WritableByteChannel channel) throws IOException {
+        // 파일을 연 후에는 다른 thread가 삭제해도 끝까지 읽을 수 있다.
+        try (FileChannel file = this.open(name, generator)) {
+            long size = file.size();
+
+            for (long position = 0; position < size;) {
+                position += file.transferTo(position, size - position, channel);
+            }
+        }
+    }
+
+    /**
+     * 보관한 파일 열기. 없을 경우 생성한다. 같은 파일은 동시에 한번만 생성한다.
+     *
+     * @param name
+     *            파일 이름 (hash)
+     * @param generator
+     *            엑셀 파일 생성 함수
+     * @return 읽기용 channel. 보관 용량보다 큰 파일은 보관하지 않고, 닫을 때 삭제한다.
+     */
+    private FileChannel open(String name, Generator generator) throws IOException {
+        Path path = this.directory.resolve(name + SUFFIX);
+
+        synchronized (this.locks[Math.floorMod(name.hashCode(), LOCK_STRIPES)]) {
+            if (this.contains(name)) {
+                try {
+                    FileChannel file = FileChannel.open(path, StandardOpenOption.READ);
+                    Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+                    this.hit(name);
+
+                    return file;
+                } catch (NoSuchFileException e) {
+                    // 직접 삭제된 파일은 다시 생성한다.
+                    this.remove(name);
+                }
+            }
+
+            Path tempFile = Files.createTempFile(this.directory, name, TEMP_SUFFIX);
+            boolean moved = false;
+
+            try {
+                try (OutputStream out = Files.newOutputStream(tempFile)) {
+                    generator.write(out);
+                }
+
+                long size = Files.size(tempFile);
+
+                synchronized (this) {
+                    this.missCount++;
+                }
+
+                if (size > this.maxBytes) {
+                    moved = true;
+                    return FileChannel.open(tempFile, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+                }
+
+                move(tempFile, path);
+                moved = true;
+                FileChannel file = FileChannel.open(path, StandardOpenOption.READ);
+                this.add(name, size);
+
+                return file;
+            } finally {
+                if (!moved) {
+                    Files.deleteIfExists(tempFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param name
+     *            파일 이름 (hash)
+     * @return 보관 중인 경우 true
+     */
+    private synchronized boolean contains(String name) {
+        return this.entries.containsKey(name);
+    }
+
+    /**
+     * 보관한 파일을 전달한 횟수를 증가시키고, 가장 최근에 사용한 파일로 변경
+     *
+     * @param name
+     *            파일 이름 (hash)
+     */
+    private synchronized void hit(String name) {
+        this.entries.get(name);
+        this.hitCount++;
+    }
+
+    /**
+     * 보관 파일 등록. 보관 용량을 넘을 경우 가장 오래 사용하지 않은 파일부터 삭제한다.
+     *
+     * @param name
+     *            파일 이름 (hash)
+     * @param size
+     *            파일 크기 (byte)
+     */
+    private void add(String name, long size) {
+        List<String> evicted = new ArrayList<>();
+
+        synchronized (this) {
+            Long previous = this.entries.put(name, size);
+            this.totalBytes += size - (previous == null ? 0 : previous);
+
+            Iterator<Map.Entry<String, Long>> iterator = this.entries.entrySet().iterator();
+
+            while (this.totalBytes > this.maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+
+                if (!entry.getKey().equals(name)) {
+                    this.totalBytes -= entry.getValue();
+                    evicted.add(entry.getKey());
+                    iterator.remove();
+                }
+            }
+        }
+
+        for (String evictedName : evicted) {
+            try {
+                Files.deleteIfExists(this.directory.resolve(evictedName + SUFFIX));
+            } catch (IOException e) {
+                // 사용 중이라 삭제할 수 없는 파일은 다음에 생성할 때 다시 등록한다.
+            }
+        }
+    }
+
+    /**
+     * 보관 파일 등록 해제
+     *
+     * @param name
+     *            파일 이름 (hash)
+     */
+    private synchronized void remove(String name) {
+        Long size = this.entries.remove(name);
+
+        if (size != null) {
+            this.totalBytes -= size;
+        }
+    }
+
+    /**
+     * 보관 디렉토리의 파일을 최근 수정 시간 순서로 등록
+     */
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+
+                if (fileName.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else if (fileName.endsWith(SUFFIX) && Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+
+        Map<Path, FileTime> modifiedTimes = new LinkedHashMap<>();
+
+        for (Path file : files) {
+            modifiedTimes.put(file, Files.getLastModifiedTime(file));
+        }
+
+        files.sort(Comparator.comparing(modifiedTimes::get));
+
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            this.add(fileName.substring(0, fileName.length() - SUFFIX.length()), Files.size(file));
+        }
+    }
+
+    /**
+     * 생성한 파일을 보관 위치로 이동. 가능한 경우 다른 thread가 완성되지 않은 파일을 읽지 않도록 한번에 이동한다.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * stream을 channel로 변환. 파일 stream일 경우 파일 channel을 사용하여 메모리 복사 없이 기록한다.
+     */
+    private static WritableByteChannel channel(OutputStream out) {
+        return out instanceof FileOutputStream ? ((FileOutputStream) out).getChannel() : Channels.newChannel(out);
+    }
+
+    /**
+     * 엑셀 파일 생성 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    @FunctionalInterface
+    public interface Generator {
+
+        /**
+         * 엑셀 파일을 생성하여 stream에 기록
+         *
+         * @param out
+         *            보관할 파일의 stream. 닫지 않아야 한다.
+         * @throws IOException
+         *             생성 실패. 생성 중이던 파일은 삭제한다.
+         */
+        void write(OutputStream out) throws IOException;
+
+    }
+
+    /**
+     * 파일 이름으로 사용할 SHA-256 hash 계산 객체. 값마다 길이를 함께 기록하여, 값의 경계가 달라지면 다른 hash가 되도록 한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static final class Digest {
+
+        /** hex 문자 */
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        /** hash 계산 객체 */
+        private final MessageDigest digest;
+
+        /**
+         * @param kind
+         *            데이터 종류. 종류가 다르면 같은 값이라도 다른 hash가 된다.
+         */
+        Digest(String kind) {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+            }
+
+            this.update(kind);
+        }
+
+        void update(String value) {
+            if (value == null) {
+                this.updateLength(-1);
+                return;
+            }
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.updateLength(bytes.length);
+            this.digest.update(bytes);
+        }
+
+        void update(Object[] values) {
+            this.updateLength(values == null ? -1 : values.length);
+
+            if (values != null) {
+                for (Object value : values) {
+                    // 기록되는 cell 종류가 데이터 타입에 따라 달라지므로 타입도 포함한다.
+                    this.update(value == null ? null : value.getClass().getName());
+                    this.update(value == null ? null : value.toString());
+                }
+            }
+        }
+
+        /**
+         * 엑셀 파일 내용에 영향을 주는 설정 추가
+         */
+        void update(ExcelOptions options) {
+            this.update(new Object[] { options.isTypedCells(), options.getMaxRowsPerSheet(), options.getColumnWidth(),
+                    options.getWidthSampleRows(), options.getStringStorage(), options.getSharedStringLimit() });
+        }
+
+        private void updateLength(int length) {
+            this.digest.update((byte) (length >>> 24));
+            this.digest.update((byte) (length >>> 16));
+            this.digest.update((byte) (length >>> 8));
+            this.digest.update((byte) length);
+        }
+
+        /**
+         * @return hash의 hex 문자열
+         */
+        String name() {
+            byte[] hash = this.digest.digest();
+            char[] name = new char[hash.length * 2];
+
+            for (int byteIndex = 0; byteIndex < hash.length; byteIndex++) {
+                name[byteIndex * 2] = HEX[(hash[byteIndex] >> 4) & 0xF];
+                name[byteIndex * 2 + 1] = HEX[hash[byteIndex] & 0xF];
+            }
+
+            return new String(name);
+        }
+
+    }
+
+}
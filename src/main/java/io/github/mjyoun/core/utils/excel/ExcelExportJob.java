@@ -0,0 +1,278 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * {@link ExcelExportService}에 등록한 엑셀 생성 작업. <br>
+ * 진행 상황(기록한 row 개수, byte 수)을 조회하거나 작업을 취소할 수 있으며, 완료 여부는 {@link #getFuture()}로 전달받는다.
+ *
+ * <pre>
+ * ExcelExportJob job = service.submit(contents, Sample.class, path, ExcelOptions.DEFAULT);
+ * job.getFuture().thenAccept(rowCount -&gt; log.info("완료 [rows: {}]", rowCount));
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelExportJob {
+
+    /**
+     * 작업 상태
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public enum Status {
+
+        /** 실행 대기 중 */
+        WAITING,
+        /** 실행 중 */
+        RUNNING,
+        /** 완료 */
+        COMPLETED,
+        /** 실패 */
+        FAILED,
+        /** 취소 */
+        CANCELLED;
+
+    }
+
+    /** 작업 결과. 기록한 데이터 row 개수 */
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+    /** 작업 상태 */
+    private volatile Status status = Status.WAITING;
+    /** 기록한 데이터 row 개수 */
+    private volatile long rowCount;
+    /** 기록한 엑셀 파일 byte 수 */
+    private volatile long byteCount;
+    /** 취소 요청 여부 */
+    private volatile boolean cancelRequested;
+    /** 작업을 실행 중인 thread. 실행 중이 아닐 경우 null */
+    private Thread runner;
+
+    ExcelExportJob() {
+        // future를 직접 취소한 경우에도 작업을 중단한다.
+        this.future.whenComplete((rowCount, e) -> {
+            if (e instanceof CancellationException) {
+                this.cancel();
+            }
+        });
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return 지금까지 시트에 기록한 데이터 row 개수
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return 지금까지 기록한 엑셀 파일 byte 수. 시트 기록이 모두 끝난 후 파일을 압축하면서 증가한다.
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * 작업 결과 조회. 성공할 경우 기록한 데이터 row 개수로 완료되며, 실패할 경우 발생한 예외, 취소된 경우 {@link CancellationException}으로 완료된다. <br>
+     * 실패, 취소된 경우에도 임시 파일, 기록 중이던 파일을 정리한 후 완료된다.
+     *
+     * @return 작업 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public CompletableFuture<Long> getFuture() {
+        return future;
+    }
+
+    /**
+     * 작업 취소. 실행 대기 중일 경우 실행하지 않고, 실행 중일 경우 다음 row나 파일 데이터를 기록할 때 중단한다. <br>
+     * 실행 중인 thread는 interrupt하지 않는다. 라이브러리의 class 초기화 중에 interrupt되면 해당 class를 더 이상 사용할 수 없게 되기 때문이다.
+     *
+     * @return 취소를 요청한 경우 true. 이미 종료된 작업일 경우 false
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public synchronized boolean cancel() {
+        if (this.cancelRequested || this.isDone()) {
+            return false;
+        }
+
+        this.cancelRequested = true;
+
+        if (this.runner != null) {
+            if (this.status == Status.WAITING) {
+                // 동시 실행 개수 제한을 기다리는 중
+                this.runner.interrupt();
+            }
+        } else {
+            // 아직 thread가 할당되지 않은 작업은 사용 중인 자원이 없으므로 바로 완료한다.
+            this.status = Status.CANCELLED;
+            this.future.completeExceptionally(new CancellationException("엑셀 생성이 취소되었습니다."));
+        }
+
+        return true;
+    }
+
+    /**
+     * @return 완료, 실패, 취소 중 하나일 경우 true
+     */
+    public boolean isDone() {
+        Status current = this.status;
+        return current == Status.COMPLETED || current == Status.FAILED || current == Status.CANCELLED;
+    }
+
+    /**
+     * 현재 thread를 작업 thread로 지정. 동시 실행 개수 제한을 기다리는 동안에도 취소할 수 있도록 실행 전에 호출한다.
+     *
+     * @return 실행할 수 있을 경우 true. 이미 취소된 경우 false
+     */
+    synchronized boolean attach() {
+        if (this.cancelRequested) {
+            return false;
+        }
+
+        this.runner = Thread.currentThread();
+
+        return true;
+    }
+
+    /**
+     * 실행 중 상태로 변경
+     *
+     * @return 실행할 수 있을 경우 true. 이미 취소된 경우 false
+     */
+    synchronized boolean running() {
+        if (this.cancelRequested) {
+            return false;
+        }
+
+        this.status = Status.RUNNING;
+
+        return true;
+    }
+
+    /**
+     * 작업 종료 처리. 작업 thread의 interrupt 상태를 초기화하고 결과를 전달한다.
+     *
+     * @param error
+     *            실패한 경우 발생한 예외. 성공한 경우 null
+     */
+    void finish(Throwable error) {
+        synchronized (this) {
+            if (this.runner == Thread.currentThread()) {
+                this.runner = null;
+                // 대기 중 취소 요청으로 설정된 interrupt가 thread pool의 다음 작업에 남지 않도록 초기화한다.
+                Thread.interrupted();
+            }
+
+            if (this.cancelRequested) {
+                this.status = Status.CANCELLED;
+            } else if (error != null) {
+                this.status = Status.FAILED;
+            } else {
+                this.status = Status.COMPLETED;
+            }
+        }
+
+        if (this.status == Status.CANCELLED) {
+            CancellationException cancelled = new CancellationException("엑셀 생성이 취소되었습니다.");
+
+            if (error != null) {
+                cancelled.initCause(error);
+            }
+
+            this.future.completeExceptionally(cancelled);
+        } else if (error != null) {
+            this.future.completeExceptionally(error);
+        } else {
+            this.future.complete(this.rowCount);
+        }
+    }
+
+    /**
+     * 진행 상황을 기록하고 취소 여부를 확인하는 listener 생성
+     *
+     * @param delegate
+     *            설정에 지정된 listener
+     * @return listener
+     */
+    ExcelExportListener listener(@NotNull ExcelExportListener delegate) {
+        return new ExcelExportListener() {
+
+            @Override
+            public void onRow(long rowCount) {
+                ExcelExportJob.this.rowCount = rowCount;
+
+                if (ExcelExportJob.this.cancelRequested) {
+                    throw new CancellationException("엑셀 생성이 취소되었습니다.");
+                }
+
+                delegate.onRow(rowCount);
+            }
+
+            @Override
+            public void onComplete(ExcelExportMetrics metrics) {
+                delegate.onComplete(metrics);
+            }
+
+            @Override
+            public void onFailure(ExcelExportMetrics metrics, Throwable error) {
+                delegate.onFailure(metrics, error);
+            }
+
+        };
+    }
+
+    /**
+     * 기록한 byte 수를 세고 취소 여부를 확인하는 stream 생성
+     *
+     * @param out
+     *            기록할 stream
+     * @return stream. 닫아도 원래 stream은 닫지 않는다.
+     */
+    OutputStream counting(@NotNull OutputStream out) {
+        return new FilterOutputStream(out) {
+
+            @Override
+            public void write(int b) throws IOException {
+                this.checkCancelled();
+                this.out.write(b);
+                ExcelExportJob.this.byteCount++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                this.checkCancelled();
+                this.out.write(b, off, len);
+                ExcelExportJob.this.byteCount += len;
+            }
+
+            @Override
+            public void close() throws IOException {
+                this.flush();
+            }
+
+            private void checkCancelled() throws InterruptedIOException {
+                if (ExcelExportJob.this.cancelRequested) {
+                    throw new InterruptedIOException("엑셀 생성이 취소되었습니다.");
+                }
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.github.mjyoun.core.utils.excel;
+
+/**
+ * 엑셀 생성 진행 상황과 측정 정보를 전달받는 객체. <br>
+ * 엑셀을 생성하는 thread에서 호출되므로, 오래 걸리는 작업을 하지 않아야 한다. {@link #onRow(long)}에서 예외를 던질 경우 엑셀 생성을 중단한다. <br>
+ * {@link #NONE}이 아닌 객체를 설정하면 단계별 소요 시간을 측정한다. 로그로 남길 경우 {@link ExcelExportLogListener}를 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public interface ExcelExportListener {
+
+    /** 아무것도 하지 않는 객체 */
+    ExcelExportListener NONE = new ExcelExportListener() {
+    };
+
+    /**
+     * 데이터 row 하나를 시트에 기록한 후 호출
+     *
+     * @param rowCount
+     *            지금까지 기록한 데이터 row 개수. 헤더 row는 제외한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    default void onRow(long rowCount) {
+    }
+
+    /**
+     * 엑셀 생성 완료 후 호출. 파일로 기록한 경우 파일 기록까지 끝난 후, 엑셀 객체를 반환하는 경우 시트 기록이 끝난 후 호출한다.
+     *
+     * @param metrics
+     *            측정 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    default void onComplete(ExcelExportMetrics metrics) {
+    }
+
+    /**
+     * 엑셀 생성 실패(취소 포함)시 호출
+     *
+     * @param metrics
+     *            실패 시점까지의 측정 정보
+     * @param error
+     *            발생한 예외
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    default void onFailure(ExcelExportMetrics metrics, Throwable error) {
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.mjyoun.core.utils.TimeUtils;
+
+/**
+ * 엑셀 생성 측정 정보를 log4j 로그로 남기는 객체. <br>
+ * 완료시 단계별 소요 시간, 초당 row 개수, cell 개수, 임시 파일/엑셀 파일 크기를 한 줄로 기록하고, 실패시 실패 시점까지의 정보를 WARN으로 기록한다.
+ *
+ * <pre>
+ * ExcelOptions options = ExcelOptions.builder() //
+ *         .listener(new ExcelExportLogListener()) //
+ *         .build();
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelExportLogListener implements ExcelExportListener {
+
+    /** 로그 출력 객체 */
+    private final Logger logger;
+    /** 완료, 진행 상황 로그 레벨 */
+    private final Level level;
+    /** 진행 상황을 기록할 row 간격. 0일 경우 기록하지 않음 */
+    private final long progressRows;
+
+    /**
+     * 이 클래스 이름의 logger로 완료 정보만 INFO 레벨로 기록한다.
+     */
+    public ExcelExportLogListener() {
+        this(LogManager.getLogger(ExcelExportLogListener.class), Level.INFO, 0);
+    }
+
+    /**
+     * @param logger
+     *            로그 출력 객체
+     * @param level
+     *            완료, 진행 상황 로그 레벨
+     */
+    public ExcelExportLogListener(@NotNull Logger logger, @NotNull Level level) {
+        this(logger, level, 0);
+    }
+
+    /**
+     * @param logger
+     *            로그 출력 객체
+     * @param level
+     *            완료, 진행 상황 로그 레벨
+     * @param progressRows
+     *            진행 상황을 기록할 row 간격. 0일 경우 기록하지 않음
+     * @throws IllegalArgumentException
+     *             row 간격이 0 미만일 경우
+     */
+    public ExcelExportLogListener(@NotNull Logger logger, @NotNull Level level, long progressRows) {
+        if (progressRows < 0) {
+            throw new IllegalArgumentException(MessageFormat.format("진행 상황 기록 간격은 0 이상이어야 합니다. [progressRows: {0}]",
+                    String.valueOf(progressRows)));
+        }
+
+        this.logger = logger;
+        this.level = level;
+        this.progressRows = progressRows;
+    }
+
+    @Override
+    public void onRow(long rowCount) {
+        if (this.progressRows > 0 && rowCount % this.progressRows == 0) {
+            this.logger.log(this.level, "엑셀 생성 중 [rows: {}]", rowCount);
+        }
+    }
+
+    @Override
+    public void onComplete(ExcelExportMetrics metrics) {
+        if (this.logger.isEnabled(this.level)) {
+            this.logger.log(this.level, "엑셀 생성 완료 {}", summary(metrics));
+        }
+    }
+
+    @Override
+    public void onFailure(ExcelExportMetrics metrics, Throwable error) {
+        this.logger.warn("엑셀 생성 실패 {} [error: {}]", summary(metrics), error.toString());
+    }
+
+    /**
+     * 측정 정보를 한 줄로 정리
+     *
+     * @param metrics
+     *            측정 정보
+     * @return 측정 정보 문자열
+     */
+    private static String summary(ExcelExportMetrics metrics) {
+        StringBuilder summary = new StringBuilder("[rows: ").append(metrics.getRowCount()) //
+                .append(", cells: ").append(metrics.getCellCount()) //
+                .append(", sheets: ").append(metrics.getSheetCount()) //
+                .append(", rows/sec: ").append(Math.round(metrics.getRowsPerSecond())) //
+                .append(", total: ").append(millis(metrics.getTotalNanos()));
+
+        for (ExcelExportPhase phase : ExcelExportPhase.values()) {
+            long nanos = metrics.getNanos(phase);
+            long percent = metrics.getTotalNanos() <= 0 ? 0 : Math.round(nanos * 100.0 / metrics.getTotalNanos());
+
+            summary.append(", ").append(phase.name().toLowerCase()).append(": ").append(millis(nanos)) //
+                    .append(" (").append(percent).append("%)");
+        }
+
+        return summary.append(", tempFileBytes: ").append(metrics.getTempFileBytes()) //
+                .append(", fileBytes: ").append(metrics.getFileBytes()) //
+                .append(']') //
+                .toString();
+    }
+
+    private static String millis(long nanos) {
+        return TimeUtils.convertTimeNano(nanos, TimeUnit.MILLISECONDS) + "ms";
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 엑셀 생성 한 건의 측정 정보. <br>
+ * {@link ExcelOptions#getListener()}가 {@link ExcelExportListener#NONE}이 아닐 때만 측정하며, 생성이 끝나면
+ * {@link ExcelExportListener#onComplete(ExcelExportMetrics)}, {@link ExcelExportListener#onFailure(ExcelExportMetrics, Throwable)}로
+ * 전달한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelExportMetrics {
+
+    /** 측정 시작 시각 (nanosecond) */
+    private final long startNanos = System.nanoTime();
+    /** 단계별 소요 시간 (nanosecond) */
+    private final long[] phaseNanos = new long[ExcelExportPhase.values().length];
+    /** 전체 소요 시간 (nanosecond) */
+    private long totalNanos;
+    /** 기록한 데이터 row 개수 */
+    private long rowCount;
+    /** 기록한 데이터 cell 개수 */
+    private long cellCount;
+    /** 생성한 시트 개수 */
+    private int sheetCount;
+    /** 시트 데이터 임시 파일 전체 크기 (byte) */
+    private long tempFileBytes;
+    /** 엑셀 파일 크기 (byte) */
+    private long fileBytes = -1;
+
+    ExcelExportMetrics() {
+    }
+
+    /**
+     * @return 전체 소요 시간 (nanosecond)
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 단계별 소요 시간 조회
+     *
+     * @param phase
+     *            생성 단계
+     * @return 소요 시간 (nanosecond)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public long getNanos(@NotNull ExcelExportPhase phase) {
+        return this.phaseNanos[phase.ordinal()];
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return 기록한 데이터 cell 개수. 헤더 cell은 제외한다.
+     */
+    public long getCellCount() {
+        return cellCount;
+    }
+
+    public int getSheetCount() {
+        return sheetCount;
+    }
+
+    /**
+     * @return 시트 데이터 임시 파일 전체 크기 (byte). 임시 파일을 압축할 경우 압축된 크기
+     */
+    public long getTempFileBytes() {
+        return tempFileBytes;
+    }
+
+    /**
+     * @return 엑셀 파일 크기 (byte). 파일로 기록하지 않고 엑셀 객체를 반환한 경우 -1
+     */
+    public long getFileBytes() {
+        return fileBytes;
+    }
+
+    /**
+     * 초당 기록한 데이터 row 개수 조회
+     *
+     * @return 초당 row 개수. 소요 시간이 없을 경우 0
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public double getRowsPerSecond() {
+        return this.totalNanos <= 0 ? 0 : this.rowCount * (double) TimeUnit.SECONDS.toNanos(1) / this.totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ExcelExportMetrics{" +
+                "rowCount=" + rowCount +
+                ", cellCount=" + cellCount +
+                ", sheetCount=" + sheetCount +
+                ", rowsPerSecond=" + Math.round(this.getRowsPerSecond()) +
+                ", extractMillis=" + millis(this.getNanos(ExcelExportPhase.EXTRACT)) +
+                ", writeMillis=" + millis(this.getNanos(ExcelExportPhase.WRITE)) +
+                ", flushMillis=" + millis(this.getNanos(ExcelExportPhase.FLUSH)) +
+                ", packageMillis=" + millis(this.getNanos(ExcelExportPhase.PACKAGE)) +
+                ", totalMillis=" + millis(totalNanos) +
+                ", tempFileBytes=" + tempFileBytes +
+                ", fileBytes=" + fileBytes +
+                '}';
+    }
+
+    /**
+     * 단계별 소요 시간 추가
+     *
+     * @param phase
+     *            생성 단계
+     * @param nanos
+     *            소요 시간 (nanosecond)
+     */
+    void add(ExcelExportPhase phase, long nanos) {
+        this.phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * 시트 하나의 기록 정보 추가
+     *
+     * @param rows
+     *            기록한 데이터 row 개수
+     * @param cells
+     *            기록한 데이터 cell 개수
+     */
+    void addSheet(long rows, long cells) {
+        this.sheetCount++;
+        this.rowCount += rows;
+        this.cellCount += cells;
+    }
+
+    void setTempFileBytes(long tempFileBytes) {
+        this.tempFileBytes = tempFileBytes;
+    }
+
+    void setFileBytes(long fileBytes) {
+        this.fileBytes = fileBytes;
+    }
+
+    /**
+     * 측정 종료
+     *
+     * @return 측정 정보
+     */
+    ExcelExportMetrics finish() {
+        this.totalNanos = System.nanoTime() - this.startNanos;
+        return this;
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.github.mjyoun.core.utils.excel;
+
+/**
+ * 엑셀 생성 단계. {@link ExcelExportMetrics}에서 단계별 소요 시간을 구분할 때 사용한다. <br>
+ * 소요 시간은 시트를 기록하는 thread 기준이며, 단계끼리 겹치지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public enum ExcelExportPhase {
+
+    /** 원본 데이터 조회와 row 변환(필드 조회, 문자열 변환). 병렬 처리시 변환 결과를 기다린 시간 */
+    EXTRACT,
+    /** 헤더, 데이터 cell 기록과 style, 컬럼 width 설정 */
+    WRITE,
+    /** row window를 벗어난 row를 시트 데이터 임시 파일에 기록 */
+    FLUSH,
+    /** 임시 파일을 모아서 엑셀 파일(zip)로 기록 */
+    PACKAGE;
+
+}
@@ -0,0 +1,420 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.constraints.NotNull;
+
+import io.github.mjyoun.core.utils.ThreadUtils;
+
+/**
+ * 엑셀 생성을 호출한 thread와 분리하여 실행하는 객체. <br>
+ * 동시에 실행하는 작업 개수와 대기할 수 있는 작업 개수를 제한하여, 요청이 몰려도 heap, 임시 파일 용량이 한없이 늘어나지 않도록 한다. <br>
+ * executor를 지정하지 않을 경우 작업마다 virtual thread를 생성한다.
+ *
+ * <pre>
+ * ExcelExportService service = ExcelExportService.builder() //
+ *         .maxConcurrentJobs(4) //
+ *         .build();
+ *
+ * ExcelExportJob job = service.submit(contents, Sample.class, path, ExcelOptions.DEFAULT);
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelExportService implements AutoCloseable {
+
+    /** 동시에 실행할 수 있는 작업 개수 */
+    private final int maxConcurrentJobs;
+    /** 실행하지 않고 대기할 수 있는 작업 개수 */
+    private final int maxQueuedJobs;
+    /** 동시 실행 개수 제한 */
+    private final Semaphore permits;
+    /** 작업을 실행할 executor */
+    private final Executor executor;
+    /** 직접 생성한 executor. 설정된 executor를 사용할 경우 null */
+    private final ExecutorService ownExecutor;
+    /** 등록된 작업 중 종료되지 않은 작업 개수 */
+    private final AtomicInteger pendingJobs = new AtomicInteger();
+    /** 종료되지 않은 작업 목록 */
+    private final Set<ExcelExportJob> jobs = ConcurrentHashMap.newKeySet();
+    /** 종료 여부 */
+    private volatile boolean closed;
+
+    private ExcelExportService(Builder builder) {
+        this.maxConcurrentJobs = builder.maxConcurrentJobs;
+        this.maxQueuedJobs = builder.maxQueuedJobs;
+        this.permits = new Semaphore(builder.maxConcurrentJobs, true);
+
+        if (builder.executor == null) {
+            this.ownExecutor = ThreadUtils.newTaskExecutor("excel-export-");
+            this.executor = this.ownExecutor;
+        } else {
+            this.ownExecutor = null;
+            this.executor = builder.executor;
+        }
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public int getMaxQueuedJobs() {
+        return maxQueuedJobs;
+    }
+
+    /**
+     * @return 실행 중이거나 대기 중인 작업 개수
+     */
+    public int getPendingJobCount() {
+        return pendingJobs.get();
+    }
+
+    /**
+     * 엑셀 파일 생성 작업 등록. 실패하거나 취소될 경우 기록 중이던 파일을 삭제한다.
+     *
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보. 작업 thread에서 순회하며, {@link AutoCloseable}일 경우(예: {@link ExcelPagedSource}) 작업이 끝나거나 실패, 취소되면
+     *            닫는다.
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param path
+     *            저장할 위치
+     * @param options
+     *            엑셀 생성 설정
+     * @return 등록된 작업
+     * @throws RejectedExecutionException
+     *             종료되었거나, 대기 중인 작업이 너무 많을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public <T> ExcelExportJob submit(@NotNull Iterator<T> contents, @NotNull Class<T> clazz, @NotNull Path path,
+            @NotNull ExcelOptions options) {
+        // 잘못된 클래스는 등록 시점에 확인한다.
+        ExcelSheetModel.of(clazz);
+
+        return this.submit((jobOptions, out) -> ExcelUtils.create(contents, clazz, out, jobOptions), path, null,
+                options);
+    }
+
+    /**
+     * 엑셀 파일을 생성하여 stream에 기록하는 작업 등록. stream은 닫지 않으므로, 작업이 종료된 후 호출한 쪽에서 닫아야 한다.
+     *
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보. 작업 thread에서 순회하며, {@link AutoCloseable}일 경우(예: {@link ExcelPagedSource}) 작업이 끝나거나 실패, 취소되면
+     *            닫는다.
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param out
+     *            기록할 stream
+     * @param options
+     *            엑셀 생성 설정
+     * @return 등록된 작업
+     * @throws RejectedExecutionException
+     *             종료되었거나, 대기 중인 작업이 너무 많을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public <T> ExcelExportJob submit(@NotNull Iterator<T> contents, @NotNull Class<T> clazz,
+            @NotNull OutputStream out, @NotNull ExcelOptions options) {
+        ExcelSheetModel.of(clazz);
+
+        return this.submit((jobOptions, target) -> ExcelUtils.create(contents, clazz, target, jobOptions), null, out,
+                options);
+    }
+
+    /**
+     * 헤더와 row 데이터로 엑셀 파일을 생성하는 작업 등록. 실패하거나 취소될 경우 기록 중이던 파일을 삭제한다.
+     *
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            row 단위 데이터 정보. 작업 thread에서 순회한다.
+     * @param sheetName
+     *            시트 이름
+     * @param path
+     *            저장할 위치
+     * @param options
+     *            엑셀 생성 설정
+     * @return 등록된 작업
+     * @throws RejectedExecutionException
+     *             종료되었거나, 대기 중인 작업이 너무 많을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public ExcelExportJob submit(@NotNull String[] headers, @NotNull Iterator<Object[]> datas,
+            @NotNull String sheetName, @NotNull Path path, @NotNull ExcelOptions options) {
+        return this.submit((jobOptions, out) -> ExcelUtils.create(headers, datas, sheetName, out, jobOptions), path,
+                null, options);
+    }
+
+    /**
+     * 종료되지 않은 작업을 모두 취소하고, 직접 생성한 executor를 종료한다. 이후 등록하는 작업은 거부한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+
+        for (ExcelExportJob job : this.jobs) {
+            job.cancel();
+        }
+
+        if (this.ownExecutor != null) {
+            this.ownExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 작업 등록
+     *
+     * @param task
+     *            엑셀 생성 함수
+     * @param path
+     *            저장할 위치. stream에 기록할 경우 null
+     * @param out
+     *            기록할 stream. 파일로 저장할 경우 null
+     * @param options
+     *            엑셀 생성 설정
+     * @return 등록된 작업
+     */
+    private ExcelExportJob submit(ExportTask task, Path path, OutputStream out, ExcelOptions options) {
+        if (this.closed) {
+            throw new RejectedExecutionException("종료된 엑셀 생성 서비스입니다.");
+        }
+
+        int limit = this.maxConcurrentJobs + this.maxQueuedJobs;
+
+        if (this.pendingJobs.incrementAndGet() > limit) {
+            this.pendingJobs.decrementAndGet();
+            throw new RejectedExecutionException(MessageFormat.format(
+                    "대기 중인 엑셀 생성 작업이 너무 많습니다. [limit: {0}]", String.valueOf(limit)));
+        }
+
+        ExcelExportJob job = new ExcelExportJob();
+        this.jobs.add(job);
+
+        try {
+            this.executor.execute(() -> this.run(job, task, path, out, options));
+        } catch (RuntimeException e) {
+            this.jobs.remove(job);
+            this.pendingJobs.decrementAndGet();
+            throw e;
+        }
+
+        return job;
+    }
+
+    /**
+     * 작업 실행. 동시 실행 개수 제한을 기다린 후 엑셀을 생성한다.
+     *
+     * @param job
+     *            작업
+     * @param task
+     *            엑셀 생성 함수
+     * @param path
+     *            저장할 위치. stream에 기록할 경우 null
+     * @param out
+     *            기록할 stream. 파일로 저장할 경우 null
+     * @param options
+     *            엑셀 생성 설정
+     */
+    private void run(ExcelExportJob job, ExportTask task, Path path, OutputStream out, ExcelOptions options) {
+        try {
+            if (!job.attach()) {
+                // 실행 전에 취소된 작업
+                return;
+            }
+
+            try {
+                this.permits.acquire();
+            } catch (InterruptedException e) {
+                job.finish(e);
+                return;
+            }
+
+            Throwable error = null;
+
+            try {
+                if (!job.running()) {
+                    job.finish(null);
+                    return;
+                }
+
+                ExcelOptions jobOptions = options.toBuilder() //
+                        .listener(job.listener(options.getListener())) //
+                        .build();
+
+                if (path == null) {
+                    task.export(jobOptions, job.counting(out));
+                } else {
+                    this.export(task, jobOptions, job, path);
+                }
+            } catch (Throwable e) {
+                error = e;
+            } finally {
+                this.permits.release();
+            }
+
+            job.finish(error);
+        } finally {
+            this.jobs.remove(job);
+            this.pendingJobs.decrementAndGet();
+        }
+    }
+
+    /**
+     * 엑셀 파일 생성. 실패할 경우 기록 중이던 파일을 삭제한다.
+     *
+     * @param task
+     *            엑셀 생성 함수
+     * @param options
+     *            엑셀 생성 설정
+     * @param job
+     *            작업
+     * @param path
+     *            저장할 위치
+     * @throws IOException
+     */
+    private void export(ExportTask task, ExcelOptions options, ExcelExportJob job, Path path) throws IOException {
+        try (OutputStream out = new FileOutputStream(path.normalize().toString())) {
+            task.export(options, job.counting(out));
+        } catch (IOException | RuntimeException | Error e) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * 설정 생성 객체 조회
+     *
+     * @return {@link Builder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 엑셀 생성 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    @FunctionalInterface
+    private interface ExportTask {
+
+        /**
+         * @param options
+         *            엑셀 생성 설정
+         * @param out
+         *            기록할 stream
+         * @throws IOException
+         */
+        void export(ExcelOptions options, OutputStream out) throws IOException;
+
+    }
+
+    /**
+     * {@link ExcelExportService} 생성 객체
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static class Builder {
+
+        /** 동시에 실행할 수 있는 작업 개수 */
+        private int maxConcurrentJobs = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        /** 실행하지 않고 대기할 수 있는 작업 개수 */
+        private int maxQueuedJobs = 100;
+        /** 작업을 실행할 executor */
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxConcurrentJobs
+         *            동시에 실행할 수 있는 작업 개수. 작업마다 row window 크기만큼의 row와 임시 파일을 사용하므로 heap, 디스크 용량에 맞춰 설정한다. default
+         *            (CPU 개수 / 2)
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder maxConcurrentJobs(int maxConcurrentJobs) {
+            if (maxConcurrentJobs < 1) {
+                throw new IllegalArgumentException("동시 실행 작업 개수는 1 이상이어야 합니다.");
+            }
+
+            this.maxConcurrentJobs = maxConcurrentJobs;
+            return this;
+        }
+
+        /**
+         * @param maxQueuedJobs
+         *            동시 실행 개수를 초과하여 대기할 수 있는 작업 개수. 초과할 경우 등록을 거부한다. default 100
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             0 미만일 경우
+         */
+        public Builder maxQueuedJobs(int maxQueuedJobs) {
+            if (maxQueuedJobs < 0) {
+                throw new IllegalArgumentException("대기 작업 개수는 0 이상이어야 합니다.");
+            }
+
+            this.maxQueuedJobs = maxQueuedJobs;
+            return this;
+        }
+
+        /**
+         * @param executor
+         *            작업을 실행할 executor. 동시 실행 개수 제한은 executor와 관계없이 적용된다. null일 경우 작업마다 virtual thread를 생성하는
+         *            executor를 만들고, {@link ExcelExportService#close()} 호출시 종료한다.
+         * @return {@link Builder}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * 서비스 생성
+         *
+         * @return {@link ExcelExportService}
+         */
+        public ExcelExportService build() {
+            return new ExcelExportService(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,502 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * 엑셀 생성 설정 정보
+ *
+ * <pre>
+ * ExcelOptions options = ExcelOptions.builder() //
+ *         .styles(styles) //
+ *         .build();
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelOptions {
+
+    /** 시트 하나에 기록할 수 있는 최대 데이터 row 개수. 엑셀 최대 row 개수에서 헤더 row를 제외한 값 */
+    public static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+
+    /** 기본 설정 */
+    public static final ExcelOptions DEFAULT = ExcelOptions.builder().build();
+
+    /** 사용자 정의 style 목록 */
+    private final ExcelStyles styles;
+    /** 숫자, 날짜 데이터를 엑셀의 숫자, 날짜 cell로 기록할지 여부 */
+    private final boolean typedCells;
+    /** 메모리에 유지하는 row 개수 */
+    private final int rowAccessWindowSize;
+    /** 시트 데이터 임시 파일 압축 여부 */
+    private final boolean compressTempFiles;
+    /** 임시 파일 위치. null일 경우 java.io.tmpdir */
+    private final Path tempDirectory;
+    /** 엑셀 파일 하나가 사용할 수 있는 임시 파일 용량 (byte). 0 이하일 경우 제한 없음 */
+    private final long diskBudget;
+    /** 시트 하나에 기록할 최대 데이터 row 개수 */
+    private final int maxRowsPerSheet;
+    /** 데이터 변환 병렬 처리 개수 */
+    private final int parallelism;
+    /** 병렬 처리시 한번에 변환할 데이터 개수 */
+    private final int chunkSize;
+    /** 병렬 처리시 데이터 변환을 실행할 executor. nullable */
+    private final Executor executor;
+    /** 컬럼 width 설정 방법 */
+    private final ExcelColumnWidth columnWidth;
+    /** 컬럼 width 추정에 사용할 시트별 데이터 row 개수 */
+    private final int widthSampleRows;
+    /** 진행 상황을 전달받을 객체 */
+    private final ExcelExportListener listener;
+    /** 문자열 cell 저장 방법 */
+    private final ExcelStringStorage stringStorage;
+    /** 엑셀 파일 하나에 저장할 최대 공유 문자열 개수 */
+    private final int sharedStringLimit;
+    /** 엑셀 파일 압축 수준 */
+    private final int compressionLevel;
+    /** 엑셀 파일 압축 thread 개수 */
+    private final int compressionThreads;
+
+    private ExcelOptions(Builder builder) {
+        this.styles = builder.styles;
+        this.typedCells = builder.typedCells;
+        this.rowAccessWindowSize = builder.rowAccessWindowSize;
+        this.compressTempFiles = builder.compressTempFiles;
+        this.tempDirectory = builder.tempDirectory;
+        this.diskBudget = builder.diskBudget;
+        this.maxRowsPerSheet = builder.maxRowsPerSheet;
+        this.parallelism = builder.parallelism;
+        this.chunkSize = builder.chunkSize;
+        this.executor = builder.executor;
+        this.columnWidth = builder.columnWidth;
+        this.widthSampleRows = builder.widthSampleRows;
+        this.listener = builder.listener;
+        this.stringStorage = builder.stringStorage;
+        this.sharedStringLimit = builder.sharedStringLimit;
+        this.compressionLevel = builder.compressionLevel;
+        this.compressionThreads = builder.compressionThreads;
+    }
+
+    public ExcelStyles getStyles() {
+        return styles;
+    }
+
+    public boolean isTypedCells() {
+        return typedCells;
+    }
+
+    public int getRowAccessWindowSize() {
+        return rowAccessWindowSize;
+    }
+
+    public boolean isCompressTempFiles() {
+        return compressTempFiles;
+    }
+
+    public Path getTempDirectory() {
+        return tempDirectory;
+    }
+
+    public long getDiskBudget() {
+        return diskBudget;
+    }
+
+    public int getMaxRowsPerSheet() {
+        return maxRowsPerSheet;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public ExcelColumnWidth getColumnWidth() {
+        return columnWidth;
+    }
+
+    public int getWidthSampleRows() {
+        return widthSampleRows;
+    }
+
+    public ExcelExportListener getListener() {
+        return listener;
+    }
+
+    public ExcelStringStorage getStringStorage() {
+        return stringStorage;
+    }
+
+    public int getSharedStringLimit() {
+        return sharedStringLimit;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    /**
+     * 설정 생성 객체 조회
+     *
+     * @return {@link Builder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 현재 설정 값을 가진 설정 생성 객체 조회
+     *
+     * @return {@link Builder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.styles = this.styles;
+        builder.typedCells = this.typedCells;
+        builder.rowAccessWindowSize = this.rowAccessWindowSize;
+        builder.compressTempFiles = this.compressTempFiles;
+        builder.tempDirectory = this.tempDirectory;
+        builder.diskBudget = this.diskBudget;
+        builder.maxRowsPerSheet = this.maxRowsPerSheet;
+        builder.parallelism = this.parallelism;
+        builder.chunkSize = this.chunkSize;
+        builder.executor = this.executor;
+        builder.columnWidth = this.columnWidth;
+        builder.widthSampleRows = this.widthSampleRows;
+        builder.listener = this.listener;
+        builder.stringStorage = this.stringStorage;
+        builder.sharedStringLimit = this.sharedStringLimit;
+        builder.compressionLevel = this.compressionLevel;
+        builder.compressionThreads = this.compressionThreads;
+
+        return builder;
+    }
+
+    /**
+     * {@link ExcelOptions} 생성 객체
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static class Builder {
+
+        /** 사용자 정의 style 목록 */
+        private ExcelStyles styles;
+        /** 숫자, 날짜 데이터를 엑셀의 숫자, 날짜 cell로 기록할지 여부 */
+        private boolean typedCells = false;
+        /** 메모리에 유지하는 row 개수 */
+        private int rowAccessWindowSize = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+        /** 시트 데이터 임시 파일 압축 여부 */
+        private boolean compressTempFiles = false;
+        /** 임시 파일 위치 */
+        private Path tempDirectory;
+        /** 임시 파일 용량 제한 (byte) */
+        private long diskBudget = 0;
+        /** 시트 하나에 기록할 최대 데이터 row 개수 */
+        private int maxRowsPerSheet = MAX_ROWS_PER_SHEET;
+        /** 데이터 변환 병렬 처리 개수 */
+        private int parallelism = 1;
+        /** 병렬 처리시 한번에 변환할 데이터 개수 */
+        private int chunkSize = 1000;
+        /** 병렬 처리시 데이터 변환을 실행할 executor */
+        private Executor executor;
+        /** 컬럼 width 설정 방법 */
+        private ExcelColumnWidth columnWidth = ExcelColumnWidth.SAMPLE;
+        /** 컬럼 width 추정에 사용할 시트별 데이터 row 개수 */
+        private int widthSampleRows = 100;
+        /** 진행 상황을 전달받을 객체 */
+        private ExcelExportListener listener = ExcelExportListener.NONE;
+        /** 문자열 cell 저장 방법 */
+        private ExcelStringStorage stringStorage = ExcelStringStorage.COLUMN;
+        /** 엑셀 파일 하나에 저장할 최대 공유 문자열 개수 */
+        private int sharedStringLimit = 10000;
+        /** 엑셀 파일 압축 수준 */
+        private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+        /** 엑셀 파일 압축 thread 개수 */
+        private int compressionThreads = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * @param styles
+         *            사용자 정의 style 목록. {@link io.github.mjyoun.core.utils.excel.annotation.ExcelColumn#style()}에서 사용할 style을 등록한다.
+         * @return {@link Builder}
+         */
+        public Builder styles(ExcelStyles styles) {
+            this.styles = styles;
+            return this;
+        }
+
+        /**
+         * @param typedCells
+         *            true일 경우 숫자, 날짜 데이터를 문자열로 변환하지 않고 엑셀의 숫자, 날짜 cell로 기록한다. 엑셀에서 정렬, 필터를 값 기준으로 사용할 수 있다.
+         *            default false
+         * @return {@link Builder}
+         */
+        public Builder typedCells(boolean typedCells) {
+            this.typedCells = typedCells;
+            return this;
+        }
+
+        /**
+         * @param rowAccessWindowSize
+         *            메모리에 유지하는 row 개수. 초과한 row는 임시 파일로 기록된다. default {@value SXSSFWorkbook#DEFAULT_WINDOW_SIZE}
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder rowAccessWindowSize(int rowAccessWindowSize) {
+            if (rowAccessWindowSize < 1) {
+                throw new IllegalArgumentException("row window 크기는 1 이상이어야 합니다.");
+            }
+
+            this.rowAccessWindowSize = rowAccessWindowSize;
+            return this;
+        }
+
+        /**
+         * @param compressTempFiles
+         *            true일 경우 시트 데이터 임시 파일을 gzip으로 압축한다. 디스크 사용량이 줄어드는 대신 CPU를 더 사용한다. default false
+         * @return {@link Builder}
+         */
+        public Builder compressTempFiles(boolean compressTempFiles) {
+            this.compressTempFiles = compressTempFiles;
+            return this;
+        }
+
+        /**
+         * @param tempDirectory
+         *            임시 파일 위치. 없을 경우 생성한다. null일 경우 java.io.tmpdir
+         * @return {@link Builder}
+         */
+        public Builder tempDirectory(Path tempDirectory) {
+            this.tempDirectory = tempDirectory;
+            return this;
+        }
+
+        /**
+         * @param diskBudget
+         *            엑셀 파일 하나가 사용할 수 있는 시트 데이터 임시 파일 용량 (byte). 초과할 경우 생성을 중단한다. 0 이하일 경우 제한 없음. default 0
+         * @return {@link Builder}
+         */
+        public Builder diskBudget(long diskBudget) {
+            this.diskBudget = diskBudget;
+            return this;
+        }
+
+        /**
+         * @param maxRowsPerSheet
+         *            시트 하나에 기록할 최대 데이터 row 개수. 초과할 경우 헤더를 반복한 새 시트(이름, 이름_2, 이름_3, ...)에 이어서 기록한다. default
+         *            {@link ExcelOptions#MAX_ROWS_PER_SHEET}
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만이거나 {@link ExcelOptions#MAX_ROWS_PER_SHEET}를 초과할 경우
+         */
+        public Builder maxRowsPerSheet(int maxRowsPerSheet) {
+            if (maxRowsPerSheet < 1 || maxRowsPerSheet > MAX_ROWS_PER_SHEET) {
+                throw new IllegalArgumentException(
+                        MessageFormat.format("시트의 최대 row 개수는 1 ~ {0} 사이여야 합니다. [maxRowsPerSheet: {1}]",
+                                String.valueOf(MAX_ROWS_PER_SHEET), String.valueOf(maxRowsPerSheet)));
+            }
+
+            this.maxRowsPerSheet = maxRowsPerSheet;
+            return this;
+        }
+
+        /**
+         * @param parallelism
+         *            데이터 변환(필드 조회, 문자열 변환) 병렬 처리 개수. 2 이상일 경우 chunk 단위로 여러 thread에서 변환하고, 시트에는 원래 순서대로 기록한다.
+         *            default 1 (병렬 처리하지 않음)
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("병렬 처리 개수는 1 이상이어야 합니다.");
+            }
+
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param chunkSize
+         *            병렬 처리시 한번에 변환할 데이터 개수. 최대 (병렬 처리 개수 x 2 x chunk 크기) 만큼의 row가 메모리에 유지된다. default 1000
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("chunk 크기는 1 이상이어야 합니다.");
+            }
+
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * @param executor
+         *            병렬 처리시 데이터 변환을 실행할 executor. null일 경우 병렬 처리 개수만큼의 thread pool을 생성하고 완료 후 종료한다.
+         * @return {@link Builder}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param columnWidth
+         *            컬럼 width 설정 방법. {@link io.github.mjyoun.core.utils.excel.annotation.ExcelColumn#width()}가 지정된 컬럼은 항상
+         *            지정된 width를 사용한다. default {@link ExcelColumnWidth#SAMPLE}
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             null일 경우
+         */
+        public Builder columnWidth(ExcelColumnWidth columnWidth) {
+            if (columnWidth == null) {
+                throw new IllegalArgumentException("컬럼 width 설정 방법이 없습니다.");
+            }
+
+            this.columnWidth = columnWidth;
+            return this;
+        }
+
+        /**
+         * @param widthSampleRows
+         *            {@link ExcelColumnWidth#SAMPLE} 사용시 width 추정에 사용할 시트별 데이터 row 개수. default 100
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder widthSampleRows(int widthSampleRows) {
+            if (widthSampleRows < 1) {
+                throw new IllegalArgumentException("width 추정 row 개수는 1 이상이어야 합니다.");
+            }
+
+            this.widthSampleRows = widthSampleRows;
+            return this;
+        }
+
+        /**
+         * @param listener
+         *            진행 상황을 전달받을 객체. default {@link ExcelExportListener#NONE}
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             null일 경우
+         */
+        public Builder listener(ExcelExportListener listener) {
+            if (listener == null) {
+                throw new IllegalArgumentException("진행 상황을 전달받을 객체가 없습니다.");
+            }
+
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * @param stringStorage
+         *            문자열 cell 저장 방법. default {@link ExcelStringStorage#COLUMN}
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             null일 경우
+         */
+        public Builder stringStorage(ExcelStringStorage stringStorage) {
+            if (stringStorage == null) {
+                throw new IllegalArgumentException("문자열 저장 방법이 없습니다.");
+            }
+
+            this.stringStorage = stringStorage;
+            return this;
+        }
+
+        /**
+         * @param sharedStringLimit
+         *            엑셀 파일 하나에 저장할 최대 공유 문자열 개수. 공유 문자열은 엑셀 생성이 끝날 때까지 메모리에 유지하므로, 개수를 제한하여 메모리 사용량을 일정하게
+         *            유지한다. 제한을 넘은 새 값은 inline 문자열로 기록한다. default 10000
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder sharedStringLimit(int sharedStringLimit) {
+            if (sharedStringLimit < 1) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "공유 문자열 개수는 1 이상이어야 합니다. [sharedStringLimit: {0}]", String.valueOf(sharedStringLimit)));
+            }
+
+            this.sharedStringLimit = sharedStringLimit;
+            return this;
+        }
+
+        /**
+         * @param compressionLevel
+         *            엑셀 파일 압축 수준. 0(압축하지 않음, 가장 빠름) ~ 9(가장 작은 파일). 다운로드처럼 응답 시간이 중요한 경우 1(빠른 압축)을 사용한다. default
+         *            {@value Deflater#DEFAULT_COMPRESSION} (기본 수준, 6)
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             -1 ~ 9 범위가 아닐 경우
+         */
+        public Builder compressionLevel(int compressionLevel) {
+            if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "압축 수준은 -1 ~ 9 사이여야 합니다. [compressionLevel: {0}]", String.valueOf(compressionLevel)));
+            }
+
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        /**
+         * @param compressionThreads
+         *            엑셀 파일 압축 thread 개수. 2 이상이고 시트가 여러 개일 경우, 압축하지 않은 임시 엑셀 파일을 만든 후 시트 등 파일 항목을 여러 thread에서
+         *            동시에 압축한다. 임시 파일 용량을 더 사용하는 대신 파일 기록 시간이 줄어든다. default 1
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder compressionThreads(int compressionThreads) {
+            if (compressionThreads < 1) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "압축 thread 개수는 1 이상이어야 합니다. [compressionThreads: {0}]", String.valueOf(compressionThreads)));
+            }
+
+            this.compressionThreads = compressionThreads;
+            return this;
+        }
+
+        /**
+         * 설정 생성
+         *
+         * @return {@link ExcelOptions}
+         */
+        public ExcelOptions build() {
+            return new ExcelOptions(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,425 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.lang.ref.Cleaner;
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.constraints.NotNull;
+
+import io.github.mjyoun.core.utils.ThreadUtils;
+
+/**
+ * 페이지 단위로 조회하는 데이터를 다른 thread에서 미리 조회하여 순서대로 반환하는 객체. <br>
+ * 현재 페이지를 엑셀에 기록하는 동안 다음 페이지를 조회하므로, DB 조회 시간과 엑셀 기록 시간이 겹친다. 미리 조회하는 페이지 개수를 제한하여 메모리 사용량을 일정하게 유지한다.
+ * <br>
+ * 조회한 페이지가 비어 있거나 페이지 크기보다 작을 경우 마지막 페이지로 판단한다. <br>
+ * 사용 후 {@link #close()}로 조회를 중단해야 한다. {@link ExcelUtils}, {@link ExcelExportService}에 전달한 경우 기록이 끝나거나 실패, 취소되면 닫는다. 닫지
+ * 않고 버린 경우에도 GC될 때 조회를 중단하지만, 그 전까지는 조회 thread와 미리 조회한 페이지가 유지된다.
+ *
+ * <pre>
+ * ExcelPagedSource&lt;Sample&gt; source = ExcelPagedSource.builder( //
+ *         (page, size) -&gt; repository.findAll(PageRequest.of(page, size)).getContent()) //
+ *         .pageSize(1000) //
+ *         .build();
+ *
+ * ExcelUtils.create(source, Sample.class, path, ExcelOptions.DEFAULT);
+ * </pre>
+ *
+ * @param <T>
+ *            데이터 클래스
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelPagedSource<T> implements Iterator<T>, AutoCloseable {
+
+    /** 조회 완료 표시 */
+    private static final Fetched END = new Fetched(null, null);
+    /** 조회 결과를 넣을 수 있는지 다시 확인하는 간격 (millisecond) */
+    private static final long OFFER_INTERVAL_MILLIS = 100;
+    /** 닫지 않고 버린 객체의 조회를 중단하는 cleaner */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /** 페이지 조회 상태. 조회 thread는 이 객체만 참조하므로, 버려진 객체는 GC될 수 있다. */
+    private final Prefetch<T> prefetch;
+    /** 설정된 executor. 없을 경우 null */
+    private final Executor executor;
+    /** 조회 중단 작업. GC될 때 또는 {@link #close()} 호출시 한번만 실행한다. */
+    private final Cleaner.Cleanable cleanable;
+    /** 조회 시작 여부 */
+    private boolean started;
+    /** 모든 페이지를 반환했는지 여부 */
+    private boolean finished;
+    /** 현재 반환 중인 페이지 */
+    private List<?> current;
+    /** 현재 페이지에서 다음에 반환할 위치 */
+    private int index;
+
+    private ExcelPagedSource(Builder<T> builder) {
+        this.prefetch = new Prefetch<>(builder.fetcher, builder.pageSize, builder.prefetchPages);
+        this.executor = builder.executor;
+        this.cleanable = CLEANER.register(this, this.prefetch::close);
+    }
+
+    /**
+     * 페이지 조회 데이터 생성
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @param fetcher
+     *            페이지 조회 함수
+     * @param pageSize
+     *            페이지 크기
+     * @return {@link ExcelPagedSource}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> ExcelPagedSource<T> of(@NotNull PageFetcher<T> fetcher, int pageSize) {
+        return ExcelPagedSource.builder(fetcher).pageSize(pageSize).build();
+    }
+
+    /**
+     * 생성 객체 조회
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @param fetcher
+     *            페이지 조회 함수
+     * @return {@link Builder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> Builder<T> builder(@NotNull PageFetcher<T> fetcher) {
+        return new Builder<>(fetcher);
+    }
+
+    /**
+     * 다음 데이터 존재 여부 확인. 처음 호출할 때 페이지 조회를 시작한다.
+     *
+     * @throws CancellationException
+     *             조회 결과를 기다리는 중 interrupt된 경우
+     * @throws IllegalStateException
+     *             페이지 조회 중 checked exception이 발생한 경우. 원인 예외를 포함한다.
+     */
+    @Override
+    public boolean hasNext() {
+        if (this.current != null && this.index < this.current.size()) {
+            return true;
+        } else if (this.finished || this.prefetch.closed) {
+            return false;
+        }
+
+        this.start();
+
+        Fetched fetched = this.take();
+        this.current = null;
+
+        if (fetched == END) {
+            this.finished = true;
+            this.prefetch.shutdown();
+
+            return false;
+        } else if (fetched.error != null) {
+            this.close();
+            Throwable cause = fetched.error;
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("페이지 데이터 조회에 실패했습니다.", cause);
+        }
+
+        this.current = fetched.rows;
+        this.index = 0;
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return (T) this.current.get(this.index++);
+    }
+
+    /**
+     * 조회를 중단하고, 직접 생성한 executor를 종료한다. 조회 중인 페이지는 조회가 끝난 후 버린다.
+     */
+    @Override
+    public void close() {
+        this.current = null;
+        this.cleanable.clean();
+    }
+
+    /**
+     * 다른 thread에서 페이지 조회 시작
+     */
+    private void start() {
+        if (this.started) {
+            return;
+        }
+
+        this.started = true;
+
+        if (this.executor == null) {
+            ExecutorService ownExecutor = ThreadUtils.newTaskExecutor("excel-page-");
+            this.prefetch.ownExecutor = ownExecutor;
+            ownExecutor.execute(this.prefetch);
+        } else {
+            this.executor.execute(this.prefetch);
+        }
+    }
+
+    /**
+     * 다음 조회 결과 대기
+     *
+     * @return 조회 결과
+     */
+    private Fetched take() {
+        try {
+            return this.prefetch.pages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.close();
+
+            CancellationException cancellation = new CancellationException("페이지 데이터 조회가 중단되었습니다.");
+            cancellation.initCause(e);
+            throw cancellation;
+        }
+    }
+
+    /**
+     * 페이지 조회 함수
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        /**
+         * 페이지 조회. 조회 전용 thread에서 순서대로 호출한다.
+         *
+         * @param pageIndex
+         *            페이지 순번. 0부터 시작
+         * @param pageSize
+         *            페이지 크기
+         * @return 페이지 데이터. 페이지 크기보다 작거나 비어 있을 경우(null 포함) 마지막 페이지로 판단한다.
+         * @throws Exception
+         *             조회 실패. 엑셀 생성을 중단한다.
+         */
+        List<T> fetch(int pageIndex, int pageSize) throws Exception;
+
+    }
+
+    /**
+     * 페이지 조회 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static class Fetched {
+
+        /** 페이지 데이터 */
+        private final List<?> rows;
+        /** 조회 중 발생한 예외 */
+        private final Throwable error;
+
+        Fetched(List<?> rows, Throwable error) {
+            this.rows = rows;
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * 페이지 조회 상태와 조회 작업. {@link ExcelPagedSource}를 참조하지 않는다.
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static class Prefetch<T> implements Runnable {
+
+        /** 페이지 조회 함수 */
+        private final PageFetcher<T> fetcher;
+        /** 페이지 크기 */
+        private final int pageSize;
+        /** 조회한 페이지 목록. 미리 조회하는 페이지 개수만큼만 유지한다. */
+        private final BlockingQueue<Fetched> pages;
+        /** 직접 생성한 executor. 설정된 executor를 사용하거나 시작 전일 경우 null */
+        private volatile ExecutorService ownExecutor;
+        /** 종료 여부 */
+        private volatile boolean closed;
+
+        Prefetch(PageFetcher<T> fetcher, int pageSize, int prefetchPages) {
+            this.fetcher = fetcher;
+            this.pageSize = pageSize;
+            this.pages = new ArrayBlockingQueue<>(prefetchPages);
+        }
+
+        /**
+         * 마지막 페이지까지 조회하여 목록에 추가. 목록이 가득 찬 경우 자리가 날 때까지 기다린다.
+         */
+        @Override
+        public void run() {
+            try {
+                for (int pageIndex = 0; !this.closed; pageIndex++) {
+                    List<T> page = this.fetcher.fetch(pageIndex, this.pageSize);
+
+                    if (page != null && !page.isEmpty() && !this.offer(new Fetched(page, null))) {
+                        return;
+                    }
+
+                    if (page == null || page.size() < this.pageSize) {
+                        break;
+                    }
+                }
+
+                this.offer(END);
+            } catch (Throwable e) {
+                try {
+                    this.offer(new Fetched(null, e));
+                } catch (InterruptedException interrupted) {
+                    e.addSuppressed(interrupted);
+                }
+            }
+        }
+
+        /**
+         * 조회 결과를 목록에 추가. interrupt 대신 종료 여부를 주기적으로 확인한다.
+         *
+         * @param fetched
+         *            조회 결과
+         * @return 추가한 경우 true. 종료된 경우 false
+         */
+        private boolean offer(Fetched fetched) throws InterruptedException {
+            while (!this.closed) {
+                if (this.pages.offer(fetched, OFFER_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * 조회 중단. 미리 조회한 페이지를 버리고, 직접 생성한 executor를 종료한다.
+         */
+        void close() {
+            this.closed = true;
+            this.pages.clear();
+            this.shutdown();
+        }
+
+        /**
+         * 직접 생성한 executor 종료. 조회 중인 작업은 끝날 때까지 기다리지 않는다.
+         */
+        void shutdown() {
+            ExecutorService ownExecutor = this.ownExecutor;
+
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+
+    }
+
+    /**
+     * {@link ExcelPagedSource} 생성 객체
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static class Builder<T> {
+
+        /** 페이지 조회 함수 */
+        private final PageFetcher<T> fetcher;
+        /** 페이지 크기 */
+        private int pageSize = 1000;
+        /** 미리 조회할 페이지 개수 */
+        private int prefetchPages = 2;
+        /** 페이지 조회를 실행할 executor */
+        private Executor executor;
+
+        private Builder(PageFetcher<T> fetcher) {
+            this.fetcher = fetcher;
+        }
+
+        /**
+         * @param pageSize
+         *            페이지 크기. default 1000
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder<T> pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException(
+                        MessageFormat.format("페이지 크기는 1 이상이어야 합니다. [pageSize: {0}]", String.valueOf(pageSize)));
+            }
+
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * @param prefetchPages
+         *            기록을 기다리며 미리 조회해 둘 최대 페이지 개수. 최대 (미리 조회할 페이지 개수 + 2) 페이지가 메모리에 유지된다. default 2
+         * @return {@link Builder}
+         * @throws IllegalArgumentException
+         *             1 미만일 경우
+         */
+        public Builder<T> prefetchPages(int prefetchPages) {
+            if (prefetchPages < 1) {
+                throw new IllegalArgumentException(MessageFormat.format(
+                        "미리 조회할 페이지 개수는 1 이상이어야 합니다. [prefetchPages: {0}]", String.valueOf(prefetchPages)));
+            }
+
+            this.prefetchPages = prefetchPages;
+            return this;
+        }
+
+        /**
+         * @param executor
+         *            페이지 조회를 실행할 executor. 조회하는 동안 thread 하나를 계속 사용한다. null일 경우 virtual thread를 생성하고, 조회가
+         *            끝나면 종료한다.
+         * @return {@link Builder}
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * 생성
+         *
+         * @return {@link ExcelPagedSource}
+         */
+        public ExcelPagedSource<T> build() {
+            return new ExcelPagedSource<>(this);
+        }
+
+    }
+
+}
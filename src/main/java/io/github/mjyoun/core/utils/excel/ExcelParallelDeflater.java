@@ -0,0 +1,242 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+/**
+ * 압축하지 않은 zip 파일의 항목을 여러 thread에서 압축하여, 원래 순서대로 다른 zip 파일에 기록하는 객체. <br>
+ * 시트가 여러 개인 엑셀 파일은 시트 XML을 동시에 압축하여 파일 기록 시간을 줄인다. 압축한 데이터는 크기가 작으면 메모리에, 크면 임시 파일에 보관한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelParallelDeflater {
+
+    /** 압축 결과를 메모리에 보관할 최대 원본 크기 (byte) */
+    private static final long IN_MEMORY_LIMIT = 1024 * 1024;
+    /** 압축 buffer 크기 */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** 압축 수준 */
+    private final int level;
+    /** 압축 thread 개수 */
+    private final int threads;
+    /** 임시 파일 위치. null일 경우 java.io.tmpdir */
+    private final Path tempDirectory;
+
+    /**
+     * @param options
+     *            엑셀 생성 설정. 압축 수준, 압축 thread 개수, 임시 파일 위치를 사용한다.
+     */
+    ExcelParallelDeflater(@NotNull ExcelOptions options) {
+        this.level = options.getCompressionLevel();
+        this.threads = options.getCompressionThreads();
+        this.tempDirectory = options.getTempDirectory();
+    }
+
+    /**
+     * zip 파일의 모든 항목을 압축하여 기록. 기록 후 {@link ZipArchiveOutputStream#finish()}는 호출하지 않는다.
+     *
+     * @param source
+     *            압축하지 않은 zip 파일
+     * @param target
+     *            기록할 zip stream
+     * @throws IOException
+     *             압축, 기록 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void copy(@NotNull ZipFile source, @NotNull ZipArchiveOutputStream target) throws IOException {
+        List<ZipArchiveEntry> entries = Collections.list(source.getEntriesInPhysicalOrder());
+        List<CompletableFuture<Deflated>> futures = new ArrayList<>(entries.size());
+        ForkJoinPool pool = new ForkJoinPool(this.threads);
+
+        try {
+            for (ZipArchiveEntry entry : entries) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return this.deflate(source, entry);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, pool));
+            }
+
+            // 압축이 끝난 항목부터 원래 순서대로 기록한다.
+            for (int entryIndex = 0; entryIndex < entries.size(); entryIndex++) {
+                Deflated deflated = join(futures.get(entryIndex));
+
+                try (InputStream in = deflated.open()) {
+                    target.addRawArchiveEntry(deflated.entry(entries.get(entryIndex)), in);
+                } finally {
+                    deflated.delete();
+                }
+            }
+        } finally {
+            pool.shutdown();
+
+            // 실패한 경우 남은 임시 파일 정리
+            for (CompletableFuture<Deflated> future : futures) {
+                future.thenAccept(Deflated::deleteQuietly);
+            }
+        }
+    }
+
+    /**
+     * 항목 하나 압축
+     *
+     * @param source
+     *            zip 파일
+     * @param entry
+     *            압축할 항목
+     * @return 압축 결과
+     */
+    private Deflated deflate(ZipFile source, ZipArchiveEntry entry) throws IOException {
+        Deflater deflater = new Deflater(this.level, true);
+        CRC32 crc = new CRC32();
+        Path tempFile = null;
+        ByteArrayOutputStream memory = null;
+        OutputStream out;
+
+        if (entry.getSize() < 0 || entry.getSize() > IN_MEMORY_LIMIT) {
+            tempFile = this.tempDirectory == null ? Files.createTempFile("poi-sxssf-deflate", ".bin")
+                    : Files.createTempFile(this.tempDirectory, "poi-sxssf-deflate", ".bin");
+            out = Files.newOutputStream(tempFile);
+        } else {
+            memory = new ByteArrayOutputStream((int) Math.max(entry.getSize() / 4, 64));
+            out = memory;
+        }
+
+        try (InputStream in = source.getInputStream(entry);
+                DeflaterOutputStream deflating = new DeflaterOutputStream(out, deflater, BUFFER_SIZE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                deflating.write(buffer, 0, read);
+            }
+
+            deflating.finish();
+
+            return new Deflated(tempFile, memory == null ? null : memory.toByteArray(), crc.getValue(),
+                    deflater.getBytesRead(), deflater.getBytesWritten());
+        } catch (IOException | RuntimeException e) {
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+
+            throw e;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 압축 결과 대기. 압축 중 발생한 예외는 원래 예외로 던진다.
+     */
+    private static Deflated join(CompletableFuture<Deflated> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * 항목 하나의 압축 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static class Deflated {
+
+        /** 압축 데이터 임시 파일. 메모리에 보관한 경우 null */
+        private final Path file;
+        /** 압축 데이터. 임시 파일에 보관한 경우 null */
+        private final byte[] bytes;
+        /** 원본 CRC-32 */
+        private final long crc;
+        /** 원본 크기 */
+        private final long size;
+        /** 압축 크기 */
+        private final long compressedSize;
+
+        Deflated(Path file, byte[] bytes, long crc, long size, long compressedSize) {
+            this.file = file;
+            this.bytes = bytes;
+            this.crc = crc;
+            this.size = size;
+            this.compressedSize = compressedSize;
+        }
+
+        /**
+         * @param original
+         *            원본 항목
+         * @return 압축 데이터를 그대로 기록할 항목 정보
+         */
+        ZipArchiveEntry entry(ZipArchiveEntry original) {
+            ZipArchiveEntry entry = new ZipArchiveEntry(original.getName());
+            entry.setMethod(ZipEntry.DEFLATED);
+            entry.setTime(original.getTime());
+            entry.setCrc(this.crc);
+            entry.setSize(this.size);
+            entry.setCompressedSize(this.compressedSize);
+
+            return entry;
+        }
+
+        InputStream open() throws IOException {
+            return this.file == null ? new ByteArrayInputStream(this.bytes) : Files.newInputStream(this.file);
+        }
+
+        void delete() throws IOException {
+            if (this.file != null) {
+                Files.deleteIfExists(this.file);
+            }
+        }
+
+        void deleteQuietly() {
+            try {
+                this.delete();
+            } catch (IOException e) {
+                // 임시 파일 정리 실패는 무시한다.
+            }
+        }
+
+    }
+
+}
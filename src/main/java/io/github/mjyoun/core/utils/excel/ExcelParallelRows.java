@@ -0,0 +1,182 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 데이터를 chunk 단위로 나누어 여러 thread에서 row로 변환하고, 원래 순서대로 반환하는 객체. <br>
+ * 원본 데이터 조회와 시트 기록은 호출한 thread에서 순차적으로 진행하며, 변환 중인 chunk 개수를 제한하여 메모리 사용량을 일정하게 유지한다.
+ *
+ * @param <T>
+ *            원본 데이터 클래스
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelParallelRows<T> implements Iterator<Object[]>, AutoCloseable {
+
+    /** 원본 데이터 */
+    private final Iterator<T> source;
+    /** row 변환 함수 */
+    private final Function<T, Object[]> converter;
+    /** 변환을 실행할 executor */
+    private final Executor executor;
+    /** 직접 생성한 thread pool. 설정된 executor를 사용할 경우 null */
+    private final ForkJoinPool ownPool;
+    /** chunk 하나의 데이터 개수 */
+    private final int chunkSize;
+    /** 동시에 변환할 최대 chunk 개수 */
+    private final int maxInFlight;
+    /** 변환 중인 chunk 목록. 원본 순서를 유지한다. */
+    private final Deque<CompletableFuture<Object[][]>> inFlight = new ArrayDeque<>();
+    /** 현재 반환 중인 chunk */
+    private Object[][] current;
+    /** 현재 chunk에서 다음에 반환할 위치 */
+    private int index;
+
+    /**
+     * @param source
+     *            원본 데이터
+     * @param converter
+     *            row 변환 함수. 여러 thread에서 동시에 호출된다.
+     * @param options
+     *            엑셀 생성 설정
+     */
+    ExcelParallelRows(@NotNull Iterator<T> source, @NotNull Function<T, Object[]> converter,
+            @NotNull ExcelOptions options) {
+        this.source = source;
+        this.converter = converter;
+        this.chunkSize = options.getChunkSize();
+        this.maxInFlight = options.getParallelism() * 2;
+
+        if (options.getExecutor() == null) {
+            this.ownPool = new ForkJoinPool(options.getParallelism());
+            this.executor = this.ownPool;
+        } else {
+            this.ownPool = null;
+            this.executor = options.getExecutor();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.current != null && this.index < this.current.length) {
+            return true;
+        }
+
+        this.fill();
+
+        return !this.inFlight.isEmpty();
+    }
+
+    @Override
+    public Object[] next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        if (this.current == null || this.index >= this.current.length) {
+            this.current = this.await(this.inFlight.poll());
+            this.index = 0;
+            // 기록하는 동안 다음 chunk를 변환
+            this.fill();
+        }
+
+        return this.current[this.index++];
+    }
+
+    /**
+     * 변환 중인 chunk를 취소하고, 직접 생성한 thread pool을 종료한다.
+     */
+    @Override
+    public void close() {
+        for (CompletableFuture<Object[][]> future : this.inFlight) {
+            future.cancel(true);
+        }
+
+        this.inFlight.clear();
+
+        if (this.ownPool != null) {
+            this.ownPool.shutdownNow();
+        }
+    }
+
+    /**
+     * 최대 개수까지 다음 chunk 변환 요청
+     */
+    private void fill() {
+        while (this.inFlight.size() < this.maxInFlight && this.source.hasNext()) {
+            List<T> chunk = new ArrayList<>(this.chunkSize);
+
+            while (chunk.size() < this.chunkSize && this.source.hasNext()) {
+                chunk.add(this.source.next());
+            }
+
+            this.inFlight.add(CompletableFuture.supplyAsync(() -> this.convert(chunk), this.executor));
+        }
+
+        if (this.inFlight.isEmpty() && this.ownPool != null) {
+            this.ownPool.shutdown();
+        }
+    }
+
+    /**
+     * chunk 변환
+     *
+     * @param chunk
+     *            원본 데이터 목록
+     * @return 변환된 row 목록
+     */
+    private Object[][] convert(List<T> chunk) {
+        Object[][] rows = new Object[chunk.size()][];
+
+        for (int rowIndex = 0; rowIndex < rows.length; rowIndex++) {
+            rows[rowIndex] = this.converter.apply(chunk.get(rowIndex));
+        }
+
+        return rows;
+    }
+
+    /**
+     * chunk 변환 완료 대기
+     *
+     * @param future
+     *            변환 중인 chunk
+     * @return 변환된 row 목록
+     */
+    private Object[][] await(CompletableFuture<Object[][]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.close();
+
+            CancellationException cancellation = new CancellationException("엑셀 데이터 변환이 중단되었습니다.");
+            cancellation.initCause(e);
+            throw cancellation;
+        } catch (ExecutionException e) {
+            this.close();
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("엑셀 데이터 변환에 실패했습니다.", cause);
+        }
+    }
+
+}
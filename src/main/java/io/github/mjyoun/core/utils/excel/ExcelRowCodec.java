@@ -0,0 +1,240 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 추출한 row 데이터를 파일에 기록하고 다시 읽는 객체. <br>
+ * 값마다 타입 표시를 함께 기록하여, 다시 읽은 값으로 숫자, 날짜 cell을 그대로 기록할 수 있도록 한다. 지원하지 않는 타입은 {@link Object#toString()} 문자열로 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+final class ExcelRowCodec {
+
+    /** row 시작 표시 */
+    private static final int ROW = 1;
+    /** 데이터 끝 표시 */
+    private static final int END = 0;
+
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int INTEGER = 2;
+    private static final int LONG = 3;
+    private static final int DOUBLE = 4;
+    private static final int FLOAT = 5;
+    private static final int BOOLEAN = 6;
+    private static final int BIG_DECIMAL = 7;
+    private static final int BIG_INTEGER = 8;
+    private static final int LOCAL_DATE = 9;
+    private static final int LOCAL_DATE_TIME = 10;
+    private static final int LOCAL_TIME = 11;
+    private static final int ZONED_DATE_TIME = 12;
+    private static final int DATE = 13;
+    private static final int SHORT = 14;
+    private static final int BYTE = 15;
+    private static final int CHARACTER = 16;
+
+    private ExcelRowCodec() {
+    }
+
+    /**
+     * row 하나 기록
+     *
+     * @param out
+     *            기록할 stream
+     * @param data
+     *            row 데이터
+     * @throws IOException
+     *             기록 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static void writeRow(@NotNull DataOutputStream out, @NotNull Object[] data) throws IOException {
+        out.writeByte(ROW);
+        out.writeInt(data.length);
+
+        for (Object value : data) {
+            writeValue(out, value);
+        }
+    }
+
+    /**
+     * 데이터 끝 기록. 끝 표시가 없는 파일은 기록이 끝나지 않은 파일로 판단한다.
+     *
+     * @param out
+     *            기록할 stream
+     * @throws IOException
+     *             기록 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static void writeEnd(@NotNull DataOutputStream out) throws IOException {
+        out.writeByte(END);
+    }
+
+    /**
+     * row 하나 조회
+     *
+     * @param in
+     *            읽을 stream
+     * @return row 데이터. 데이터 끝일 경우 null
+     * @throws IOException
+     *             읽기 실패 또는 끝 표시 없이 파일이 끝난 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static Object[] readRow(@NotNull DataInputStream in) throws IOException {
+        int marker = in.read();
+
+        if (marker == END) {
+            return null;
+        } else if (marker != ROW) {
+            throw marker < 0 ? new EOFException("row 데이터가 끝나지 않았습니다.")
+                    : new IOException(MessageFormat.format("잘못된 row 데이터입니다. [marker: {0}]", String.valueOf(marker)));
+        }
+
+        Object[] data = new Object[in.readInt()];
+
+        for (int dataIndex = 0; dataIndex < data.length; dataIndex++) {
+            data[dataIndex] = readValue(in);
+        }
+
+        return data;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeText(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeText(out, value.toString());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeText(out, value.toString());
+        } else if (value instanceof LocalDate) {
+            out.writeByte(LOCAL_DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalDateTime) {
+            out.writeByte(LOCAL_DATE_TIME);
+            writeText(out, value.toString());
+        } else if (value instanceof LocalTime) {
+            out.writeByte(LOCAL_TIME);
+            out.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof ZonedDateTime) {
+            out.writeByte(ZONED_DATE_TIME);
+            writeText(out, value.toString());
+        } else if (value instanceof Date) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else {
+            out.writeByte(STRING);
+            writeText(out, value.toString());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        int type = in.readUnsignedByte();
+
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readText(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case BOOLEAN:
+                return in.readBoolean();
+            case BIG_DECIMAL:
+                return new BigDecimal(readText(in));
+            case BIG_INTEGER:
+                return new BigInteger(readText(in));
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.parse(readText(in));
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case ZONED_DATE_TIME:
+                return ZonedDateTime.parse(readText(in));
+            case DATE:
+                return new Date(in.readLong());
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case CHARACTER:
+                return in.readChar();
+            default:
+                throw new IOException(MessageFormat.format("잘못된 값 타입입니다. [type: {0}]", String.valueOf(type)));
+        }
+    }
+
+    /**
+     * 문자열 기록. {@link DataOutputStream#writeUTF(String)}의 길이 제한이 없도록 UTF-8 byte 길이를 먼저 기록한다.
+     */
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.github.mjyoun.core.utils.excel;
+
+/**
+ * 클래스 하나의 엑셀 컬럼 정보와 row 데이터 추출 방법. <br>
+ * core-processor의 annotation processor가 {@link io.github.mjyoun.core.utils.excel.annotation.ExcelSheet},
+ * {@link io.github.mjyoun.core.utils.excel.annotation.ExcelColumn} 클래스마다 "클래스의 binary 이름 + {@value #SUFFIX}" 이름으로
+ * 생성하며, 생성된 클래스가 있을 경우 reflection 대신 사용한다. <br>
+ * 생성된 클래스는 이름으로 찾아 기본 생성자로 생성하므로({@link Class#forName(String, boolean, ClassLoader)}), native image에서는 생성된 클래스를 reflection
+ * 설정에 등록해야 한다. 등록하지 않으면 찾을 수 없으므로 reflection으로 데이터를 추출한다.
+ *
+ * @param <T>
+ *            데이터 클래스
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public interface ExcelRowWriter<T> {
+
+    /** 생성되는 클래스 이름의 접미사 */
+    String SUFFIX = "_ExcelRowWriter";
+
+    /**
+     * @return 시트 이름. {@link io.github.mjyoun.core.utils.excel.annotation.ExcelSheet}가 없거나 이름이 비어 있을 경우 null
+     */
+    String getSheetName();
+
+    /**
+     * @return 컬럼 순서대로 정렬된 헤더 정보
+     */
+    String[] getHeaders();
+
+    /**
+     * @return 컬럼별 사용자 정의 style 이름. 없는 컬럼은 null
+     */
+    String[] getStyleNames();
+
+    /**
+     * @return 컬럼별 지정 width (글자 수). 지정하지 않은 컬럼은 0
+     */
+    int[] getWidths();
+
+    /**
+     * @return 컬럼별 값의 종류가 적은 컬럼 여부. 지정한 컬럼이 없을 경우 null
+     */
+    default boolean[] getLowCardinality() {
+        return null;
+    }
+
+    /**
+     * @return 컬럼별 선언된 데이터 타입
+     */
+    Class<?>[] getColumnTypes();
+
+    /**
+     * 객체 하나의 데이터를 컬럼 순서대로 기록
+     *
+     * @param content
+     *            데이터 객체
+     * @param row
+     *            데이터를 기록할 배열. 컬럼 개수 크기
+     */
+    void write(T content, Object[] row);
+
+}
@@ -0,0 +1,86 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+/**
+ * 엑셀 파일 하나의 공유 문자열 목록. <br>
+ * 값마다 공유 문자열 순번을 캐싱하여, 같은 값이 반복될 때 {@link SharedStringsTable}의 XML 객체를 다시 만들지 않는다. 저장하는 값의 개수를 제한하며, 제한을 넘은 새
+ * 값은 공유하지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelSharedStrings {
+
+    /** 공유하지 않는 값의 순번 */
+    static final int NOT_SHARED = -1;
+
+    /** 엑셀 파일의 공유 문자열 목록 */
+    private final SharedStringsTable table;
+    /** 최대 공유 문자열 개수 */
+    private final int limit;
+    /** 값별 공유 문자열 순번 */
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * @param table
+     *            엑셀 파일의 공유 문자열 목록
+     * @param limit
+     *            최대 공유 문자열 개수
+     */
+    ExcelSharedStrings(@NotNull SharedStringsTable table, int limit) {
+        this.table = table;
+        this.limit = limit;
+    }
+
+    /**
+     * 값의 공유 문자열 순번 조회. 처음 나온 값일 경우 공유 문자열 목록에 추가한다.
+     *
+     * @param value
+     *            문자열 값
+     * @return 공유 문자열 순번. 개수 제한을 넘었거나 XML에 기록할 수 없는 문자가 포함된 경우 {@link #NOT_SHARED}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    int indexOf(@NotNull String value) {
+        Integer index = this.indexes.get(value);
+
+        if (index != null) {
+            return index;
+        } else if (this.indexes.size() >= this.limit || !isXmlText(value)) {
+            return NOT_SHARED;
+        }
+
+        index = this.table.addSharedStringItem(new XSSFRichTextString(value));
+        this.indexes.put(value, index);
+
+        return index;
+    }
+
+    /**
+     * XML에 그대로 기록할 수 있는 문자열인지 확인. 제어 문자가 포함된 값은 inline 문자열로 기록하여 치환 규칙을 따르도록 한다.
+     *
+     * @param value
+     *            문자열 값
+     * @return 기록할 수 있을 경우 true
+     */
+    private static boolean isXmlText(String value) {
+        for (int charIndex = 0; charIndex < value.length(); charIndex++) {
+            char c = value.charAt(charIndex);
+
+            if ((c < 0x20 && c != '\t' && c != '\n' && c != '\r') || c == 0xFFFE || c == 0xFFFF) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
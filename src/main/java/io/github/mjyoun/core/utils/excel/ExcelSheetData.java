@@ -0,0 +1,243 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 시트 하나에 기록할 정보. 헤더, 컬럼별 설정과 row 단위 데이터를 갖는다. <br>
+ * 기록이 끝나면 {@link #close()}로 row 데이터 변환에 사용한 자원을 정리한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+final class ExcelSheetData implements AutoCloseable {
+
+    /** 시트 이름 */
+    private final String sheetName;
+    /** 헤더 정보 */
+    private final String[] headers;
+    /** 컬럼별 사용자 정의 style 이름. nullable */
+    private final String[] styleNames;
+    /** 컬럼별 데이터 타입. nullable */
+    private final ExcelValueType[] valueTypes;
+    /** 컬럼별 지정 width (글자 수). nullable */
+    private final int[] widths;
+    /** 컬럼별 값의 종류가 적은 컬럼 여부. nullable */
+    private final boolean[] lowCardinality;
+    /** row 단위 데이터 */
+    private final Iterator<Object[]> rows;
+    /** row 데이터로 변환하는 원본 데이터. 없을 경우 null */
+    private final Iterator<?> source;
+
+    private ExcelSheetData(String sheetName, String[] headers, String[] styleNames, ExcelValueType[] valueTypes,
+            int[] widths, boolean[] lowCardinality, Iterator<Object[]> rows, Iterator<?> source) {
+        this.sheetName = sheetName;
+        this.headers = headers;
+        this.styleNames = styleNames;
+        this.valueTypes = valueTypes;
+        this.widths = widths;
+        this.lowCardinality = lowCardinality;
+        this.rows = rows;
+        this.source = source;
+    }
+
+    /**
+     * 헤더, row 데이터로 시트 정보 생성
+     *
+     * @param headers
+     *            헤더 정보
+     * @param rows
+     *            row 단위 데이터
+     * @param sheetName
+     *            시트 이름
+     * @return 시트 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static ExcelSheetData of(@NotNull String[] headers, @NotNull Iterator<Object[]> rows, @NotNull String sheetName) {
+        return new ExcelSheetData(sheetName, headers, null, null, null, null, rows, null);
+    }
+
+    /**
+     * 클래스의 엑셀 정보와 데이터로 시트 정보 생성. row를 요청할 때마다 객체 하나씩 데이터를 추출한다. <br>
+     * 데이터가 {@link AutoCloseable}일 경우(예: {@link ExcelPagedSource}) {@link #close()} 호출시 함께 닫는다.
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @param model
+     *            클래스의 엑셀 정보
+     * @param contents
+     *            데이터
+     * @param options
+     *            엑셀 생성 설정
+     * @return 시트 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static <T> ExcelSheetData of(@NotNull ExcelSheetModel<T> model, @NotNull Iterator<T> contents,
+            @NotNull ExcelOptions options) {
+        boolean typedCells = options.isTypedCells();
+        Function<T, Object[]> converter = content -> {
+            Object[] data = model.extract(content);
+
+            if (!typedCells) {
+                for (int dataIndex = 0; dataIndex < data.length; dataIndex++) {
+                    data[dataIndex] = ExcelValueType.toText(data[dataIndex]);
+                }
+            }
+
+            return data;
+        };
+        Iterator<Object[]> rows;
+
+        if (options.getParallelism() > 1) {
+            rows = new ExcelParallelRows<>(contents, converter, options);
+        } else {
+            rows = new Iterator<Object[]>() {
+
+                @Override
+                public boolean hasNext() {
+                    return contents.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    return converter.apply(contents.next());
+                }
+
+            };
+        }
+
+        return new ExcelSheetData(model.getSheetName(), model.getHeaders(), model.getStyleNames(),
+                model.getValueTypes(), model.getWidths(), model.getLowCardinality(), rows, contents);
+    }
+
+    /**
+     * 클래스의 엑셀 정보와 이미 추출한 row 데이터로 시트 정보 생성. 숫자, 날짜 cell로 기록하지 않을 경우 row를 요청할 때 문자열로 변환한다.
+     *
+     * @param model
+     *            클래스의 엑셀 정보
+     * @param rows
+     *            {@link ExcelSheetModel#extract(Object)}로 추출한 row 데이터. {@link AutoCloseable}일 경우 기록 후 닫는다.
+     * @param options
+     *            엑셀 생성 설정
+     * @return 시트 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static ExcelSheetData ofExtracted(@NotNull ExcelSheetModel<?> model, @NotNull Iterator<Object[]> rows,
+            @NotNull ExcelOptions options) {
+        Iterator<Object[]> converted = rows;
+
+        if (!options.isTypedCells()) {
+            converted = new TextRows(rows);
+        }
+
+        return new ExcelSheetData(model.getSheetName(), model.getHeaders(), model.getStyleNames(),
+                model.getValueTypes(), model.getWidths(), model.getLowCardinality(), converted, null);
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    public String[] getHeaders() {
+        return headers;
+    }
+
+    public String[] getStyleNames() {
+        return styleNames;
+    }
+
+    public ExcelValueType[] getValueTypes() {
+        return valueTypes;
+    }
+
+    public int[] getWidths() {
+        return widths;
+    }
+
+    public boolean[] getLowCardinality() {
+        return lowCardinality;
+    }
+
+    public Iterator<Object[]> getRows() {
+        return rows;
+    }
+
+    /**
+     * row 데이터 변환에 사용한 자원과 원본 데이터 정리
+     */
+    @Override
+    public void close() {
+        try {
+            close(this.rows);
+        } finally {
+            close(this.source);
+        }
+    }
+
+    /**
+     * 데이터가 {@link AutoCloseable}일 경우 닫는다.
+     *
+     * @param rows
+     *            데이터. nullable
+     * @throws IllegalStateException
+     *             자원 정리에 실패한 경우
+     */
+    private static void close(Iterator<?> rows) {
+        if (rows instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) rows).close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("row 데이터 자원 정리에 실패했습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * row 데이터를 문자열로 변환하는 iterator
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static class TextRows implements Iterator<Object[]>, AutoCloseable {
+
+        /** 원본 row 데이터 */
+        private final Iterator<Object[]> rows;
+
+        TextRows(Iterator<Object[]> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.rows.hasNext();
+        }
+
+        @Override
+        public Object[] next() {
+            Object[] data = this.rows.next();
+
+            for (int dataIndex = 0; dataIndex < data.length; dataIndex++) {
+                data[dataIndex] = ExcelValueType.toText(data[dataIndex]);
+            }
+
+            return data;
+        }
+
+        @Override
+        public void close() {
+            ExcelSheetData.close(this.rows);
+        }
+
+    }
+
+}
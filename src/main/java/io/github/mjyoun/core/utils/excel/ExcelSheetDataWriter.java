@@ -0,0 +1,187 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.TempFile;
+import org.apache.poi.xssf.streaming.SXSSFRow;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+
+/**
+ * {@link ExcelOptions}의 임시 파일 설정(위치, 압축 여부)을 따르는 시트 데이터 임시 파일 기록 객체. <br>
+ * 공유 문자열 컬럼이 지정된 경우, 해당 컬럼의 문자열 cell은 inline 문자열 대신 공유 문자열 순번으로 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelSheetDataWriter extends SheetDataWriter {
+
+    /**
+     * 생성 중인 writer의 설정 정보. <br>
+     * 부모 생성자에서 임시 파일을 생성하므로, 생성자 인자 대신 생성하는 thread에 설정 정보를 전달한다.
+     */
+    private static final ThreadLocal<ExcelOptions> CREATING = new ThreadLocal<>();
+
+    /** 임시 파일 압축 여부 */
+    private final boolean compress;
+    /** 측정 정보. 측정하지 않을 경우 null */
+    private ExcelExportMetrics metrics;
+    /** 공유 문자열 목록. 공유 문자열을 사용하지 않을 경우 null */
+    private ExcelSharedStrings sharedStrings;
+    /** 컬럼별 공유 문자열 사용 여부 */
+    private boolean[] sharedColumns;
+    /** 컬럼별 cell 참조 문자 (A, B, ...). 처음 사용할 때 생성한다. */
+    private String[] columnNames;
+    /** 기록 중인 row 번호 */
+    private int rownum;
+
+    private ExcelSheetDataWriter() throws IOException {
+        super();
+        this.compress = CREATING.get().isCompressTempFiles();
+    }
+
+    /**
+     * 설정 정보에 맞는 writer 생성
+     *
+     * @param options
+     *            엑셀 생성 설정
+     * @return {@link ExcelSheetDataWriter}
+     * @throws IOException
+     *             임시 파일 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static ExcelSheetDataWriter create(@NotNull ExcelOptions options) throws IOException {
+        CREATING.set(options);
+
+        try {
+            return new ExcelSheetDataWriter();
+        } finally {
+            CREATING.remove();
+        }
+    }
+
+    /**
+     * @param metrics
+     *            임시 파일 기록 시간을 추가할 측정 정보. 측정하지 않을 경우 null
+     */
+    void setMetrics(ExcelExportMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param sharedStrings
+     *            엑셀 파일의 공유 문자열 목록
+     * @param sharedColumns
+     *            컬럼별 공유 문자열 사용 여부
+     */
+    void setSharedStrings(@NotNull ExcelSharedStrings sharedStrings, @NotNull boolean[] sharedColumns) {
+        this.sharedStrings = sharedStrings;
+        this.sharedColumns = sharedColumns;
+        this.columnNames = new String[sharedColumns.length];
+    }
+
+    /**
+     * @return 현재 임시 파일 크기 (byte)
+     */
+    long getTempFileSize() {
+        File tempFile = this.getTempFile();
+        return tempFile == null ? 0 : tempFile.length();
+    }
+
+    @Override
+    public void writeRow(int rownum, SXSSFRow row) throws IOException {
+        this.rownum = rownum;
+
+        if (this.metrics == null) {
+            super.writeRow(rownum, row);
+            return;
+        }
+
+        long start = System.nanoTime();
+        super.writeRow(rownum, row);
+        this.metrics.add(ExcelExportPhase.FLUSH, System.nanoTime() - start);
+    }
+
+    /**
+     * cell 기록. 공유 문자열 컬럼의 문자열 cell은 공유 문자열 순번으로 기록하고, 나머지는 inline 문자열로 기록한다.
+     */
+    @Override
+    public void writeCell(int columnIndex, Cell cell) throws IOException {
+        if (this.sharedStrings == null || cell == null || columnIndex >= this.sharedColumns.length
+                || !this.sharedColumns[columnIndex] || cell.getCellType() != CellType.STRING) {
+            super.writeCell(columnIndex, cell);
+            return;
+        }
+
+        int index = this.sharedStrings.indexOf(cell.getStringCellValue());
+
+        if (index == ExcelSharedStrings.NOT_SHARED) {
+            super.writeCell(columnIndex, cell);
+            return;
+        }
+
+        String columnName = this.columnNames[columnIndex];
+
+        if (columnName == null) {
+            columnName = CellReference.convertNumToColString(columnIndex);
+            this.columnNames[columnIndex] = columnName;
+        }
+
+        // 부모 클래스와 같은 형식으로 기록한다. 기본 style(0)은 생략한다.
+        this._out.write("<c r=\"");
+        this._out.write(columnName);
+        this._out.write(Integer.toString(this.rownum + 1));
+
+        int styleIndex = cell.getCellStyle().getIndex() & 0xffff;
+
+        if (styleIndex != 0) {
+            this._out.write("\" s=\"");
+            this._out.write(Integer.toString(styleIndex));
+        }
+
+        this._out.write("\" t=\"s\"><v>");
+        this._out.write(Integer.toString(index));
+        this._out.write("</v></c>");
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public File createTempFile() throws IOException {
+        ExcelOptions options = CREATING.get();
+        String suffix = options.isCompressTempFiles() ? ".xml.gz" : ".xml";
+
+        if (options.getTempDirectory() == null) {
+            return TempFile.createTempFile("poi-sxssf-sheet", suffix);
+        }
+
+        Files.createDirectories(options.getTempDirectory());
+
+        return Files.createTempFile(options.getTempDirectory(), "poi-sxssf-sheet", suffix).toFile();
+    }
+
+    @Override
+    protected OutputStream decorateOutputStream(FileOutputStream fos) throws IOException {
+        // 부모 생성자에서 호출되므로 필드 대신 생성 중인 설정 정보를 사용한다.
+        return CREATING.get().isCompressTempFiles() ? new GZIPOutputStream(fos) : fos;
+    }
+
+    @Override
+    protected InputStream decorateInputStream(FileInputStream fis) throws IOException {
+        return this.compress ? new GZIPInputStream(fis) : fis;
+    }
+
+}
@@ -0,0 +1,530 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import jakarta.validation.constraints.NotNull;
+
+import io.github.mjyoun.core.utils.excel.annotation.ExcelColumn;
+import io.github.mjyoun.core.utils.excel.annotation.ExcelSheet;
+
+/**
+ * {@link ExcelSheet}, {@link ExcelColumn} 정보로 만든 클래스 단위의 엑셀 정보. <br>
+ * 클래스마다 한번만 생성하여 캐싱하며, 이후 같은 클래스의 엑셀 생성시에는 reflection 조회를 하지 않는다. <br>
+ * annotation processor가 생성한 {@link ExcelRowWriter}가 있을 경우, reflection 없이 생성된 코드로 데이터를 추출한다.
+ *
+ * @param <T>
+ *            데이터 클래스
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+final class ExcelSheetModel<T> {
+
+    /** 기본 시트 이름 */
+    static final String DEFAULT_SHEET_NAME = "sheet1";
+
+    /** 클래스별 엑셀 정보 캐시 */
+    private static final ClassValue<ExcelSheetModel<?>> CACHE = new ClassValue<ExcelSheetModel<?>>() {
+
+        @Override
+        protected ExcelSheetModel<?> computeValue(Class<?> type) {
+            return ExcelSheetModel.build(type);
+        }
+
+    };
+
+    /** 데이터 클래스 */
+    private final Class<T> type;
+    /** 기본 생성자. Object() 형태. 기본 생성자가 없거나 생성된 row writer를 사용할 경우 null */
+    private final MethodHandle constructor;
+    /** 시트 이름 */
+    private final String sheetName;
+    /** 헤더 정보 */
+    private final String[] headers;
+    /** 컬럼별 사용자 정의 style 이름 */
+    private final String[] styleNames;
+    /** 컬럼별 데이터 타입 */
+    private final ExcelValueType[] valueTypes;
+    /** 컬럼별 지정 width (글자 수) */
+    private final int[] widths;
+    /** 컬럼별 값의 종류가 적은 컬럼 여부. 지정한 컬럼이 없을 경우 null */
+    private final boolean[] lowCardinality;
+    /** 컬럼 정보. 생성된 row writer를 사용할 경우 null */
+    private final ExcelColumnModel[] columns;
+    /** annotation processor가 생성한 row writer. 없을 경우 null */
+    private final ExcelRowWriter<T> rowWriter;
+    /** 객체에 값을 저장할 때 사용할 reflection 기반 엑셀 정보. 생성된 row writer를 사용할 경우 처음 읽을 때 생성한다. */
+    private volatile ExcelSheetModel<T> bindable;
+
+    private ExcelSheetModel(Class<T> type, MethodHandle constructor, String sheetName, ExcelColumnModel[] columns) {
+        this.type = type;
+        this.constructor = constructor;
+        this.sheetName = sheetName;
+        this.columns = columns;
+        this.rowWriter = null;
+        this.headers = new String[columns.length];
+        this.styleNames = new String[columns.length];
+        this.valueTypes = new ExcelValueType[columns.length];
+        this.widths = new int[columns.length];
+        boolean[] lowCardinality = new boolean[columns.length];
+        boolean anyLowCardinality = false;
+
+        for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+            this.headers[columnIndex] = columns[columnIndex].getHeader();
+            this.styleNames[columnIndex] = columns[columnIndex].getStyleName();
+            this.valueTypes[columnIndex] = ExcelValueType.ofDeclared(columns[columnIndex].getType());
+            this.widths[columnIndex] = columns[columnIndex].getWidth();
+            lowCardinality[columnIndex] = columns[columnIndex].isLowCardinality();
+            anyLowCardinality |= lowCardinality[columnIndex];
+        }
+
+        this.lowCardinality = anyLowCardinality ? lowCardinality : null;
+    }
+
+    private ExcelSheetModel(Class<T> type, ExcelRowWriter<T> rowWriter) {
+        String sheetName = rowWriter.getSheetName();
+        Class<?>[] columnTypes = rowWriter.getColumnTypes();
+
+        this.type = type;
+        this.constructor = null;
+        this.sheetName = sheetName == null || sheetName.trim().length() == 0 ? DEFAULT_SHEET_NAME : sheetName;
+        this.columns = null;
+        this.rowWriter = rowWriter;
+        this.headers = rowWriter.getHeaders();
+        this.styleNames = rowWriter.getStyleNames();
+        this.widths = rowWriter.getWidths();
+        this.lowCardinality = rowWriter.getLowCardinality();
+        this.valueTypes = new ExcelValueType[columnTypes.length];
+
+        for (int columnIndex = 0; columnIndex < columnTypes.length; columnIndex++) {
+            this.valueTypes[columnIndex] = ExcelValueType.ofDeclared(columnTypes[columnIndex]);
+        }
+    }
+
+    /**
+     * 클래스의 엑셀 정보 조회. 처음 조회할 때 생성하고, 이후에는 캐싱된 정보를 반환한다.
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @param clazz
+     *            클래스 정보
+     * @return 엑셀 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ExcelSheetModel<T> of(@NotNull Class<T> clazz) {
+        return (ExcelSheetModel<T>) CACHE.get(clazz);
+    }
+
+    /**
+     * 클래스의 엑셀 정보 생성. annotation processor가 생성한 row writer가 있을 경우 사용하고, 없을 경우 reflection으로 생성한다.
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @param clazz
+     *            클래스 정보
+     * @return 엑셀 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static <T> ExcelSheetModel<T> build(Class<T> clazz) {
+        ExcelRowWriter<T> rowWriter = findRowWriter(clazz);
+        return rowWriter == null ? reflect(clazz) : new ExcelSheetModel<>(clazz, rowWriter);
+    }
+
+    /**
+     * annotation processor가 생성한 row writer 조회
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @param clazz
+     *            클래스 정보
+     * @return row writer. 없을 경우 null
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ExcelRowWriter<T> findRowWriter(Class<T> clazz) {
+        Class<?> writerClass;
+
+        try {
+            writerClass = Class.forName(clazz.getName() + ExcelRowWriter.SUFFIX, true, clazz.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+
+        if (!ExcelRowWriter.class.isAssignableFrom(writerClass)) {
+            return null;
+        }
+
+        try {
+            return (ExcelRowWriter<T>) writerClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    MessageFormat.format("row writer를 생성할 수 없습니다. [class: {0}]", writerClass.getName()), e);
+        }
+    }
+
+    /**
+     * reflection으로 클래스의 엑셀 정보 생성
+     *
+     * @param <T>
+     *            데이터 클래스
+     * @param clazz
+     *            클래스 정보
+     * @return 엑셀 정보
+     */
+    private static <T> ExcelSheetModel<T> reflect(Class<T> clazz) {
+        // sheet 정보
+        ExcelSheet excelSheet = clazz.getAnnotation(ExcelSheet.class);
+        String sheetName = DEFAULT_SHEET_NAME;
+
+        if (excelSheet != null && excelSheet.value().trim().length() != 0) {
+            sheetName = excelSheet.value();
+        }
+
+        List<ExcelColumnModel> columns = columns(clazz, new HashSet<>());
+
+        return new ExcelSheetModel<>(clazz, constructor(clazz), sheetName,
+                columns.toArray(new ExcelColumnModel[columns.size()]));
+    }
+
+    /**
+     * 클래스의 컬럼 정보 추출. 컬럼 순서는 다음과 같다.
+     * <ul>
+     * <li>record: 컴포넌트 선언 순서</li>
+     * <li>클래스: 상위 클래스의 필드부터 선언 순서. {@link ExcelColumn}이 선언된 getter는 같은 이름의 필드 위치에, 필드가 없을 경우 해당 클래스의 필드 다음에 이름
+     * 순서로 위치한다.</li>
+     * </ul>
+     *
+     * @param clazz
+     *            클래스 정보
+     * @param visiting
+     *            하위 객체를 펼치는 중인 클래스 목록. 순환 참조 확인용
+     * @return 컬럼 정보
+     * @throws IllegalStateException
+     *             하위 객체 펼침이 순환할 경우
+     */
+    private static List<ExcelColumnModel> columns(Class<?> clazz, Set<Class<?>> visiting) {
+        if (!visiting.add(clazz)) {
+            throw new IllegalStateException(MessageFormat.format("하위 객체 컬럼이 순환 참조합니다. [class: {0}]", clazz.getName()));
+        }
+
+        List<ExcelColumnModel> columns = new ArrayList<>();
+
+        if (clazz.isRecord()) {
+            for (RecordComponent component : clazz.getRecordComponents()) {
+                ExcelColumn excelInfo = component.getAnnotation(ExcelColumn.class);
+
+                if (excelInfo == null || !excelInfo.ignore()) {
+                    addColumn(columns, ExcelColumnModel.of(component.getAccessor(), component.getName(), null, excelInfo),
+                            excelInfo, visiting);
+                }
+            }
+        } else {
+            // 상위 클래스부터
+            Deque<Class<?>> hierarchy = new ArrayDeque<>();
+
+            for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+                hierarchy.push(type);
+            }
+
+            for (Class<?> type : hierarchy) {
+                Map<String, Method> getters = getters(type);
+
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+
+                    Method getter = getters.remove(field.getName());
+                    ExcelColumn excelInfo = (getter == null ? field : getter).getAnnotation(ExcelColumn.class);
+
+                    if (excelInfo == null || !excelInfo.ignore()) {
+                        ExcelColumnModel column = getter == null ? ExcelColumnModel.of(field, excelInfo)
+                                : ExcelColumnModel.of(getter, field.getName(), field, excelInfo);
+                        addColumn(columns, column, excelInfo, visiting);
+                    }
+                }
+
+                for (Map.Entry<String, Method> getter : getters.entrySet()) {
+                    ExcelColumn excelInfo = getter.getValue().getAnnotation(ExcelColumn.class);
+
+                    if (!excelInfo.ignore()) {
+                        addColumn(columns, ExcelColumnModel.of(getter.getValue(), getter.getKey(), null, excelInfo),
+                                excelInfo, visiting);
+                    }
+                }
+            }
+        }
+
+        visiting.remove(clazz);
+
+        return columns;
+    }
+
+    /**
+     * 컬럼 추가. 하위 객체 펼침 컬럼일 경우 하위 객체의 컬럼을 펼쳐서 추가한다.
+     *
+     * @param columns
+     *            컬럼 목록
+     * @param column
+     *            추가할 컬럼
+     * @param excelInfo
+     *            컬럼의 {@link ExcelColumn} 정보. nullable
+     * @param visiting
+     *            하위 객체를 펼치는 중인 클래스 목록
+     */
+    private static void addColumn(List<ExcelColumnModel> columns, ExcelColumnModel column, ExcelColumn excelInfo,
+            Set<Class<?>> visiting) {
+        if (excelInfo == null || !excelInfo.nested()) {
+            columns.add(column);
+            return;
+        }
+
+        for (ExcelColumnModel child : columns(column.getType(), visiting)) {
+            columns.add(child.nestedIn(column));
+        }
+    }
+
+    /**
+     * 클래스에 선언된 {@link ExcelColumn} getter 조회
+     *
+     * @param clazz
+     *            클래스 정보
+     * @return 속성 이름 순서로 정렬된 getter 목록
+     */
+    private static Map<String, Method> getters(Class<?> clazz) {
+        Map<String, Method> getters = new TreeMap<>();
+
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (!Modifier.isStatic(method.getModifiers()) && !method.isSynthetic() && !method.isBridge()
+                    && method.isAnnotationPresent(ExcelColumn.class)) {
+                getters.put(propertyName(method), method);
+            }
+        }
+
+        return getters;
+    }
+
+    /**
+     * getter의 속성 이름 조회
+     *
+     * @param method
+     *            getter 정보
+     * @return get/is를 제외한 속성 이름. getter 형식의 이름이 아닐 경우 메소드 이름
+     */
+    private static String propertyName(Method method) {
+        String name = method.getName();
+        int prefixLength = 0;
+
+        if (name.startsWith("get")) {
+            prefixLength = 3;
+        } else if (name.startsWith("is")
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            prefixLength = 2;
+        }
+
+        if (prefixLength == 0 || name.length() == prefixLength || !Character.isUpperCase(name.charAt(prefixLength))) {
+            return name;
+        }
+
+        return Character.toLowerCase(name.charAt(prefixLength)) + name.substring(prefixLength + 1);
+    }
+
+    /**
+     * 클래스의 기본 생성자 조회
+     *
+     * @param clazz
+     *            클래스 정보
+     * @return 기본 생성자. 추상 클래스이거나 기본 생성자가 없을 경우 null
+     */
+    private static MethodHandle constructor(Class<?> clazz) {
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            return null;
+        }
+
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            return MethodHandles.lookup() //
+                    .unreflectConstructor(constructor) //
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    public String[] getHeaders() {
+        return headers.clone();
+    }
+
+    public String[] getStyleNames() {
+        return styleNames.clone();
+    }
+
+    /**
+     * @return 컬럼별 데이터 타입
+     */
+    ExcelValueType[] getValueTypes() {
+        return this.valueTypes.clone();
+    }
+
+    /**
+     * @return 컬럼별 지정 width (글자 수)
+     */
+    int[] getWidths() {
+        return this.widths.clone();
+    }
+
+    /**
+     * @return 컬럼별 값의 종류가 적은 컬럼 여부. 지정한 컬럼이 없을 경우 null
+     */
+    boolean[] getLowCardinality() {
+        return this.lowCardinality == null ? null : this.lowCardinality.clone();
+    }
+
+    /**
+     * @return 컬럼 개수
+     */
+    int getColumnCount() {
+        return this.headers.length;
+    }
+
+    /**
+     * 객체에 값을 저장할 수 있는 엑셀 정보 조회. 생성된 row writer는 값 조회만 하므로, 처음 조회할 때 reflection으로 생성한다.
+     *
+     * @return 컬럼 정보가 있는 엑셀 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    ExcelSheetModel<T> bindable() {
+        if (this.rowWriter == null) {
+            return this;
+        }
+
+        ExcelSheetModel<T> model = this.bindable;
+
+        if (model == null) {
+            model = reflect(this.type);
+            this.bindable = model;
+        }
+
+        return model;
+    }
+
+    /**
+     * @param columnIndex
+     *            컬럼 순서
+     * @return 컬럼 정보
+     */
+    ExcelColumnModel getColumn(int columnIndex) {
+        return this.columns[columnIndex];
+    }
+
+    /**
+     * 헤더 이름으로 컬럼 순서 조회
+     *
+     * @param header
+     *            헤더 이름
+     * @return 컬럼 순서. 없을 경우 -1
+     */
+    int indexOf(String header) {
+        for (int columnIndex = 0; columnIndex < this.headers.length; columnIndex++) {
+            if (this.headers[columnIndex].equals(header)) {
+                return columnIndex;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 엑셀을 읽어서 객체를 만들 수 있는지 확인
+     *
+     * @throws IllegalArgumentException
+     *             기본 생성자가 없거나, 값을 저장할 수 없는 컬럼이 있을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void checkReadable() {
+        if (this.constructor == null) {
+            throw new IllegalArgumentException(
+                    MessageFormat.format("기본 생성자가 없어 객체를 생성할 수 없습니다. [class: {0}]", this.type.getName()));
+        }
+
+        for (ExcelColumnModel column : this.columns) {
+            if (!column.isWritable()) {
+                throw new IllegalArgumentException(MessageFormat.format("값을 저장할 수 없는 컬럼입니다. [class: {0}, column: {1}]",
+                        this.type.getName(), column.getHeader()));
+            }
+        }
+    }
+
+    /**
+     * 기본 생성자로 객체 생성
+     *
+     * @return 데이터 객체
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    T newInstance() {
+        try {
+            return this.type.cast((Object) this.constructor.invokeExact());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(MessageFormat.format("객체를 생성할 수 없습니다. [class: {0}]", this.type.getName()), e);
+        }
+    }
+
+    /**
+     * 객체 하나에서 컬럼 순서대로 데이터 추출
+     *
+     * @param content
+     *            데이터 객체
+     * @return 컬럼 순서대로 정렬된 데이터
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    Object[] extract(@NotNull T content) {
+        Object[] datas = new Object[this.headers.length];
+
+        if (this.rowWriter != null) {
+            this.rowWriter.write(content, datas);
+            return datas;
+        }
+
+        for (int columnIndex = 0; columnIndex < this.columns.length; columnIndex++) {
+            datas[columnIndex] = this.columns[columnIndex].get(content);
+        }
+
+        return datas;
+    }
+
+}
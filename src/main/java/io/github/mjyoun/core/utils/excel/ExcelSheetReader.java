@@ -0,0 +1,307 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * 시트 XML을 SAX 방식으로 읽어서, row마다 객체로 변환하는 객체. <br>
+ * 첫번째 row를 헤더로 사용하여 {@link io.github.mjyoun.core.utils.excel.annotation.ExcelColumn}의 헤더 이름과 같은 컬럼에 값을
+ * 저장하며, 현재 row의 데이터만 메모리에 유지한다.
+ *
+ * @param <T>
+ *            데이터 클래스
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelSheetReader<T> extends DefaultHandler {
+
+    /** 컬럼에 매칭되지 않는 엑셀 컬럼 */
+    private static final int UNMAPPED = -1;
+
+    /** 클래스의 엑셀 정보 */
+    private final ExcelSheetModel<T> model;
+    /** 컬럼별 데이터 타입 */
+    private final ExcelValueType[] valueTypes;
+    /** 공유 문자열 목록 */
+    private final ReadOnlySharedStringsTable sharedStrings;
+    /** 시트 이름 */
+    private final String sheetName;
+    /** 변환된 객체를 전달받을 함수 */
+    private final Consumer<? super T> consumer;
+
+    /** 헤더 row의 엑셀 컬럼 순서별 헤더 이름 */
+    private final Map<Integer, String> headerTexts = new HashMap<>();
+    /** 엑셀 컬럼 순서별 클래스의 컬럼 순서. 헤더 row를 읽기 전에는 null */
+    private int[] columnMapping;
+    /** 현재 row의 컬럼별 데이터 */
+    private final Object[] values;
+    /** 현재 row 번호. 1부터 시작 */
+    private int rowNum;
+    /** 현재 cell의 엑셀 컬럼 순서 */
+    private int columnIndex;
+    /** 현재 cell의 데이터 종류 (t 속성) */
+    private String cellType;
+    /** cell 값을 읽는 중인지 여부 */
+    private boolean inValue;
+    /** 발음 정보(rPh)를 읽는 중인지 여부 */
+    private boolean inPhonetic;
+    /** 현재 cell 값 */
+    private final StringBuilder text = new StringBuilder();
+    /** 변환한 객체 개수 */
+    private long rowCount;
+
+    /**
+     * @param model
+     *            클래스의 엑셀 정보
+     * @param sharedStrings
+     *            공유 문자열 목록
+     * @param sheetName
+     *            시트 이름
+     * @param consumer
+     *            변환된 객체를 전달받을 함수
+     */
+    ExcelSheetReader(@NotNull ExcelSheetModel<T> model, @NotNull ReadOnlySharedStringsTable sharedStrings,
+            @NotNull String sheetName, @NotNull Consumer<? super T> consumer) {
+        this.model = model;
+        this.valueTypes = model.getValueTypes();
+        this.sharedStrings = sharedStrings;
+        this.sheetName = sheetName;
+        this.consumer = consumer;
+        this.values = new Object[model.getColumnCount()];
+    }
+
+    /**
+     * @return 변환한 객체 개수
+     */
+    long getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "row":
+                String rowRef = attributes.getValue("r");
+                this.rowNum = rowRef == null ? this.rowNum + 1 : Integer.parseInt(rowRef);
+                this.columnIndex = -1;
+                break;
+            case "c":
+                String cellRef = attributes.getValue("r");
+                this.columnIndex = cellRef == null ? this.columnIndex + 1 : columnIndex(cellRef);
+                this.cellType = attributes.getValue("t");
+                this.text.setLength(0);
+                break;
+            case "v":
+                this.inValue = true;
+                break;
+            case "t":
+                // inline 문자열. 서식이 있는 경우 여러 개로 나뉘어 있다.
+                this.inValue = !this.inPhonetic;
+                break;
+            case "rPh":
+                this.inPhonetic = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (this.inValue) {
+            this.text.append(ch, start, length);
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName) {
+            case "v":
+            case "t":
+                this.inValue = false;
+                break;
+            case "rPh":
+                this.inPhonetic = false;
+                break;
+            case "c":
+                this.endCell();
+                break;
+            case "row":
+                this.endRow();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 읽은 cell 값을 현재 row에 저장
+     */
+    private void endCell() {
+        Object value = this.cellValue();
+
+        if (value == null) {
+            return;
+        }
+
+        if (this.columnMapping == null) {
+            this.headerTexts.put(this.columnIndex, value.toString().trim());
+        } else if (this.columnIndex < this.columnMapping.length && this.columnMapping[this.columnIndex] != UNMAPPED) {
+            this.values[this.columnMapping[this.columnIndex]] = value;
+        }
+    }
+
+    /**
+     * 현재 row를 헤더로 사용하거나, 객체로 변환하여 전달
+     */
+    private void endRow() {
+        if (this.columnMapping == null) {
+            if (!this.headerTexts.isEmpty()) {
+                this.mapHeaders();
+            }
+
+            return;
+        }
+
+        boolean empty = true;
+
+        for (Object value : this.values) {
+            if (value != null) {
+                empty = false;
+                break;
+            }
+        }
+
+        if (!empty) {
+            this.consumer.accept(this.bind());
+            this.rowCount++;
+            Arrays.fill(this.values, null);
+        }
+    }
+
+    /**
+     * 헤더 row의 헤더 이름으로 엑셀 컬럼과 클래스의 컬럼을 매칭
+     *
+     * @throws IllegalArgumentException
+     *             매칭되는 컬럼이 하나도 없을 경우
+     */
+    private void mapHeaders() {
+        int maxColumnIndex = 0;
+
+        for (Integer index : this.headerTexts.keySet()) {
+            maxColumnIndex = Math.max(maxColumnIndex, index);
+        }
+
+        int[] mapping = new int[maxColumnIndex + 1];
+        Arrays.fill(mapping, UNMAPPED);
+        boolean matched = false;
+
+        for (Map.Entry<Integer, String> header : this.headerTexts.entrySet()) {
+            mapping[header.getKey()] = this.model.indexOf(header.getValue());
+            matched |= mapping[header.getKey()] != UNMAPPED;
+        }
+
+        if (!matched) {
+            throw new IllegalArgumentException(MessageFormat.format("헤더가 일치하는 컬럼이 없습니다. [sheet: {0}, headers: {1}]",
+                    this.sheetName, this.headerTexts.values()));
+        }
+
+        this.columnMapping = mapping;
+    }
+
+    /**
+     * 현재 row의 데이터로 객체 생성
+     *
+     * @return 데이터 객체
+     * @throws IllegalArgumentException
+     *             데이터를 필드 타입으로 변환할 수 없을 경우
+     */
+    private T bind() {
+        T content = this.model.newInstance();
+
+        for (int columnIndex = 0; columnIndex < this.values.length; columnIndex++) {
+            Object value = this.values[columnIndex];
+
+            // 데이터가 없는 컬럼은 생성자에서 설정한 값을 유지한다.
+            if (value == null || ExcelValueType.EMPTY_TEXT.equals(value) || "".equals(value)) {
+                continue;
+            }
+
+            ExcelColumnModel column = this.model.getColumn(columnIndex);
+            Object data;
+
+            try {
+                data = this.valueTypes[columnIndex].read(value, column.getType());
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(
+                        MessageFormat.format("cell 데이터를 변환할 수 없습니다. [sheet: {0}, row: {1}, column: {2}, value: {3}]",
+                                this.sheetName, String.valueOf(this.rowNum), column.getHeader(), value),
+                        e);
+            }
+
+            column.set(content, data);
+        }
+
+        return content;
+    }
+
+    /**
+     * 현재 cell의 데이터 조회
+     *
+     * @return 문자열, {@link Double}, {@link Boolean} 중 하나. 데이터가 없을 경우 null
+     */
+    private Object cellValue() {
+        String value = this.text.toString();
+
+        if (value.isEmpty()) {
+            return null;
+        } else if (this.cellType == null || "n".equals(this.cellType)) {
+            return Double.valueOf(value);
+        }
+
+        switch (this.cellType) {
+            case "s":
+                return this.sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+            case "b":
+                return Boolean.valueOf("1".equals(value));
+            case "e":
+                return null;
+            default:
+                // inlineStr, str(수식 결과)
+                return value;
+        }
+    }
+
+    /**
+     * cell 위치(A1 형식)에서 컬럼 순서 추출
+     *
+     * @param cellRef
+     *            cell 위치
+     * @return 컬럼 순서. 0부터 시작
+     */
+    private static int columnIndex(String cellRef) {
+        int index = 0;
+
+        for (int charIndex = 0; charIndex < cellRef.length(); charIndex++) {
+            char ch = cellRef.charAt(charIndex);
+
+            if (ch < 'A' || ch > 'Z') {
+                break;
+            }
+
+            index = index * 26 + (ch - 'A' + 1);
+        }
+
+        return index - 1;
+    }
+
+}
@@ -0,0 +1,192 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+
+/**
+ * 하나의 시트에 header와 데이터 row를 순차적으로 기록하는 객체. <br>
+ * 데이터를 모두 메모리에 올리지 않고, row가 들어오는 즉시 {@link SXSSFSheet}에 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelSheetWriter {
+
+    /** 엑셀 파일에서 공유하는 style 목록 */
+    private final ExcelStylePool styles;
+    /** 기록 중인 시트 */
+    private final SXSSFSheet sheet;
+    /** 헤더 정보 */
+    private final String[] headers;
+    /** 컬럼별 사용자 정의 style 이름. nullable */
+    private final String[] styleNames;
+    /** 컬럼별 데이터 타입. null일 경우 데이터를 문자열 위주로 기록한다. */
+    private final ExcelValueType[] valueTypes;
+    /** 컬럼 width 계산 */
+    private final ExcelColumnWidths widths;
+    /** 다음에 기록할 row 번호 */
+    private int rowNum = 0;
+
+    /**
+     * @param workbook
+     *            엑셀 객체
+     * @param styles
+     *            엑셀 파일에서 공유하는 style 목록
+     * @param sheetName
+     *            시트 이름
+     * @param headers
+     *            헤더 정보
+     * @param styleNames
+     *            컬럼별 사용자 정의 style 이름. nullable
+     * @param valueTypes
+     *            컬럼별 데이터 타입. nullable. null일 경우 날짜 데이터를 문자열로 기록한다.
+     * @param widths
+     *            시트의 컬럼 width 계산 객체
+     * @param sharedColumns
+     *            컬럼별 공유 문자열 사용 여부. nullable. null일 경우 모든 문자열을 inline 문자열로 기록한다.
+     */
+    ExcelSheetWriter(@NotNull ExcelStreamingWorkbook workbook, @NotNull ExcelStylePool styles,
+            @NotNull String sheetName, @NotNull String[] headers, String[] styleNames, ExcelValueType[] valueTypes,
+            @NotNull ExcelColumnWidths widths, boolean[] sharedColumns) {
+        this.styles = styles;
+        this.sheet = workbook.createSheet(sheetName, sharedColumns);
+        this.headers = headers;
+        this.styleNames = styleNames;
+        this.valueTypes = valueTypes;
+        this.widths = widths;
+    }
+
+    /**
+     * 헤더 row 기록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void writeHeader() {
+        Row headerRow = this.sheet.createRow(this.rowNum++);
+
+        for (int headerIndex = 0; headerIndex < this.headers.length; headerIndex++) {
+            Cell cell = headerRow.createCell(headerIndex);
+            cell.setCellValue(this.headers[headerIndex]);
+            cell.setCellStyle(this.styles.header(headerIndex, this.headers.length));
+        }
+
+        this.widths.measureHeader(this.headers);
+    }
+
+    /**
+     * 데이터 row 기록
+     *
+     * @param datas
+     *            한 row의 데이터 정보
+     * @param last
+     *            마지막 row 여부. 마지막 row는 하단 테두리를 굵게 표시한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void writeRow(@NotNull Object[] datas, boolean last) {
+        Row row = this.sheet.createRow(this.rowNum++);
+
+        for (int j = 0; j < datas.length; j++) {
+            Cell cell = row.createCell(j);
+            String format = null;
+
+            if (this.valueTypes == null) {
+                this.writeText(cell, datas[j]);
+            } else {
+                format = this.writeTyped(cell, j < this.valueTypes.length ? this.valueTypes[j] : ExcelValueType.OBJECT, datas[j]);
+            }
+
+            String styleName = this.styleNames == null || j >= this.styleNames.length ? null : this.styleNames[j];
+            cell.setCellStyle(this.styles.data(j, datas.length, last, styleName, format));
+        }
+
+        this.widths.measureRow(datas);
+    }
+
+    /**
+     * 데이터 타입에 따라 cell 기록. 날짜 데이터는 문자열로 기록한다.
+     *
+     * @param cell
+     *            기록할 cell
+     * @param _data
+     *            데이터
+     */
+    private void writeText(Cell cell, Object _data) {
+        if (_data instanceof Integer) {
+            cell.setCellValue((Integer) _data);
+        } else if (_data instanceof Long) {
+            cell.setCellValue((Long) _data);
+        } else if (_data instanceof Double) {
+            cell.setCellValue((Double) _data);
+        } else if (_data instanceof Float) {
+            cell.setCellValue((Float) _data);
+        } else if (_data instanceof Boolean) {
+            cell.setCellValue((Boolean) _data);
+        } else if (_data instanceof LocalDate) {
+            cell.setCellValue(((LocalDate) _data).format(ExcelValueType.DATE_FORMATTER));
+        } else if (_data instanceof LocalDateTime) {
+            cell.setCellValue(((LocalDateTime) _data).format(ExcelValueType.DATE_TIME_FORMATTER));
+        } else if (_data instanceof LocalTime) {
+            cell.setCellValue(((LocalTime) _data).format(ExcelValueType.TIME_FORMATTER));
+        } else {
+            if (_data == null || _data.toString().trim().length() == 0) {
+                cell.setCellValue(ExcelValueType.EMPTY_TEXT);
+            } else {
+                cell.setCellValue(_data.toString());
+            }
+        }
+    }
+
+    /**
+     * 컬럼의 데이터 타입으로 cell 기록. 숫자, 날짜 데이터는 엑셀의 숫자, 날짜 cell로 기록한다.
+     *
+     * @param cell
+     *            기록할 cell
+     * @param columnType
+     *            컬럼의 데이터 타입
+     * @param _data
+     *            데이터
+     * @return 데이터 표시 형식. 없을 경우 null
+     */
+    private String writeTyped(Cell cell, ExcelValueType columnType, Object _data) {
+        if (_data == null) {
+            cell.setCellValue(ExcelValueType.EMPTY_TEXT);
+            return null;
+        }
+
+        ExcelValueType type = ExcelValueType.resolve(columnType, _data);
+
+        if (type == ExcelValueType.STRING && _data.toString().trim().length() == 0) {
+            cell.setCellValue(ExcelValueType.EMPTY_TEXT);
+            return null;
+        }
+
+        type.write(cell, _data);
+
+        return type.getDataFormat();
+    }
+
+    /**
+     * 시트 기록 마무리. 컬럼 width를 설정하고, 기록된 데이터 범위에 필터를 적용한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void finish() {
+        // 컬럼 width 설정
+        this.widths.apply(this.sheet);
+        // 필터 적용
+        this.sheet.setAutoFilter(new CellRangeAddress(0, this.rowNum - 1, 0, this.headers.length - 1));
+    }
+
+}
@@ -0,0 +1,322 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.poi.openxml4j.util.ZipEntrySource;
+import org.apache.poi.openxml4j.util.ZipFileZipEntrySource;
+import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+
+/**
+ * {@link ExcelOptions}의 설정(row window 크기, 임시 파일 위치/압축/용량 제한)을 따르는 {@link SXSSFWorkbook}. <br>
+ * {@link #close()}를 호출하면 임시 파일까지 모두 삭제한다. <br>
+ * 진행 상황을 전달받을 객체가 설정되어 있을 경우, 임시 파일 기록과 엑셀 파일 기록 시간, 크기를 측정한다. <br>
+ * 공유 문자열 목록은 시트 전체가 함께 사용하며, 공유 문자열 컬럼이 있는 시트를 처음 생성할 때 만든다. <br>
+ * 엑셀 파일은 설정된 압축 수준으로 기록하며, 압축 thread가 여러 개이고 시트가 여러 개일 경우 파일 항목을 동시에 압축한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelStreamingWorkbook extends SXSSFWorkbook {
+
+    /** 엑셀 생성 설정 */
+    private final ExcelOptions options;
+    /** 생성된 시트 데이터 기록 객체 목록 */
+    private final List<ExcelSheetDataWriter> writers = new ArrayList<>();
+    /** 측정 정보. 진행 상황을 전달받을 객체가 없을 경우 null */
+    private final ExcelExportMetrics metrics;
+    /** 공유 문자열 목록. 공유 문자열 컬럼이 있는 시트를 생성하기 전에는 null */
+    private ExcelSharedStrings sharedStrings;
+    /** 생성 중인 시트의 컬럼별 공유 문자열 사용 여부. nullable */
+    private boolean[] creatingSharedColumns;
+    /** 엑셀 파일 기록시 사용할 압축 수준 */
+    private int archiveLevel;
+
+    /**
+     * @param options
+     *            엑셀 생성 설정
+     */
+    ExcelStreamingWorkbook(@NotNull ExcelOptions options) {
+        super(null, options.getRowAccessWindowSize(), options.isCompressTempFiles(), false);
+        this.options = options;
+        this.metrics = options.getListener() == ExcelExportListener.NONE ? null : new ExcelExportMetrics();
+        this.archiveLevel = options.getCompressionLevel();
+    }
+
+    public ExcelOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * @return 측정 정보. 진행 상황을 전달받을 객체가 없을 경우 null
+     */
+    ExcelExportMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        ExcelSheetDataWriter writer = ExcelSheetDataWriter.create(this.options);
+        writer.setMetrics(this.metrics);
+
+        if (this.creatingSharedColumns != null) {
+            if (this.sharedStrings == null) {
+                this.sharedStrings = new ExcelSharedStrings(this._wb.getSharedStringSource(),
+                        this.options.getSharedStringLimit());
+            }
+
+            writer.setSharedStrings(this.sharedStrings, this.creatingSharedColumns);
+        }
+
+        this.writers.add(writer);
+
+        return writer;
+    }
+
+    /**
+     * 시트 생성
+     *
+     * @param sheetName
+     *            시트 이름
+     * @param sharedColumns
+     *            컬럼별 공유 문자열 사용 여부. null일 경우 모든 문자열을 inline 문자열로 기록한다.
+     * @return 생성한 시트
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    SXSSFSheet createSheet(@NotNull String sheetName, boolean[] sharedColumns) {
+        // 시트 데이터 기록 객체는 부모 클래스의 시트 생성 중에 만들어지므로, 생성하는 동안만 설정을 유지한다.
+        this.creatingSharedColumns = sharedColumns;
+
+        try {
+            return this.createSheet(sheetName);
+        } finally {
+            this.creatingSharedColumns = null;
+        }
+    }
+
+    /**
+     * @return 시트 데이터 임시 파일 전체 크기 (byte)
+     */
+    long getTempFileSize() {
+        long size = 0;
+
+        for (ExcelSheetDataWriter writer : this.writers) {
+            size += writer.getTempFileSize();
+        }
+
+        return size;
+    }
+
+    /**
+     * 임시 파일 용량 제한 확인
+     *
+     * @throws UncheckedIOException
+     *             임시 파일 크기가 제한을 넘었을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void checkDiskBudget() {
+        long budget = this.options.getDiskBudget();
+
+        if (budget > 0) {
+            long used = this.getTempFileSize();
+
+            if (used > budget) {
+                throw new UncheckedIOException(new IOException(
+                        MessageFormat.format("임시 파일 사용량이 제한을 초과했습니다. [used: {0}, budget: {1}]", used, budget)));
+            }
+        }
+    }
+
+    /**
+     * 엑셀 생성 완료를 진행 상황을 전달받을 객체에 전달
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void complete() {
+        if (this.metrics != null) {
+            this.metrics.setTempFileBytes(this.getTempFileSize());
+            this.options.getListener().onComplete(this.metrics.finish());
+        }
+    }
+
+    /**
+     * 엑셀 생성 실패를 진행 상황을 전달받을 객체에 전달
+     *
+     * @param error
+     *            발생한 예외
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void fail(@NotNull Throwable error) {
+        if (this.metrics != null) {
+            this.metrics.setTempFileBytes(this.getTempFileSize());
+
+            try {
+                this.options.getListener().onFailure(this.metrics.finish(), error);
+            } catch (RuntimeException e) {
+                error.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * 엑셀 파일 기록. 측정 중일 경우 기록 시간과 파일 크기를 측정한다.
+     */
+    @Override
+    public void write(OutputStream stream) throws IOException {
+        if (this.metrics == null) {
+            this.writePackage(stream);
+            return;
+        }
+
+        long flushNanos = this.metrics.getNanos(ExcelExportPhase.FLUSH);
+        long start = System.nanoTime();
+        long[] fileBytes = new long[1];
+
+        this.writePackage(new FilterOutputStream(stream) {
+
+            @Override
+            public void write(int b) throws IOException {
+                this.out.write(b);
+                fileBytes[0]++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                this.out.write(b, off, len);
+                fileBytes[0] += len;
+            }
+
+            @Override
+            public void close() throws IOException {
+                // 원래 stream은 호출한 쪽에서 닫는다.
+                this.flush();
+            }
+
+        });
+
+        // 남아 있던 row를 임시 파일에 기록한 시간은 제외한다.
+        long elapsed = System.nanoTime() - start;
+        this.metrics.add(ExcelExportPhase.PACKAGE,
+                elapsed - (this.metrics.getNanos(ExcelExportPhase.FLUSH) - flushNanos));
+        this.metrics.setFileBytes(fileBytes[0]);
+    }
+
+    /**
+     * 엑셀 파일 기록. 임시 파일 위치가 설정되어 있을 경우, 템플릿 임시 파일도 해당 위치에 생성한다.
+     *
+     * @param stream
+     *            기록할 stream
+     */
+    private void writePackage(OutputStream stream) throws IOException {
+        if (this.options.getTempDirectory() == null) {
+            super.write(stream);
+            return;
+        }
+
+        this.flushSheets();
+
+        // 템플릿 저장
+        Files.createDirectories(this.options.getTempDirectory());
+        File templateFile = Files.createTempFile(this.options.getTempDirectory(), "poi-sxssf-template", ".xlsx").toFile();
+
+        try {
+            try (OutputStream os = Files.newOutputStream(templateFile.toPath())) {
+                this._wb.write(os);
+            }
+
+            // 템플릿의 시트 정보를 임시 파일의 데이터로 변경
+            try (ZipSecureFile zipFile = new ZipSecureFile(templateFile);
+                    ZipFileZipEntrySource source = new ZipFileZipEntrySource(zipFile)) {
+                this.injectData(source, stream);
+            }
+        } finally {
+            Files.deleteIfExists(templateFile.toPath());
+        }
+    }
+
+    /**
+     * 설정된 압축 수준으로 기록하는 zip stream 생성
+     */
+    @Override
+    protected ZipArchiveOutputStream createArchiveOutputStream(OutputStream out) {
+        ZipArchiveOutputStream zos = super.createArchiveOutputStream(out);
+        zos.setLevel(this.archiveLevel);
+
+        return zos;
+    }
+
+    /**
+     * 템플릿에 시트 데이터를 추가하여 엑셀 파일 기록. 압축 thread가 여러 개이고 시트가 여러 개일 경우, 압축하지 않은 임시 파일을 만든 후 파일 항목을 동시에 압축한다.
+     */
+    @Override
+    protected void injectData(ZipEntrySource zipEntrySource, OutputStream out) throws IOException {
+        if (this.options.getCompressionThreads() < 2 || this.getNumberOfSheets() < 2) {
+            super.injectData(zipEntrySource, out);
+            return;
+        }
+
+        Path tempDirectory = this.options.getTempDirectory();
+        Path packedFile = tempDirectory == null ? Files.createTempFile("poi-sxssf-packed", ".xlsx")
+                : Files.createTempFile(tempDirectory, "poi-sxssf-packed", ".xlsx");
+
+        try {
+            this.archiveLevel = Deflater.NO_COMPRESSION;
+
+            try (OutputStream packed = Files.newOutputStream(packedFile)) {
+                super.injectData(zipEntrySource, packed);
+            } finally {
+                this.archiveLevel = this.options.getCompressionLevel();
+            }
+
+            // 압축된 데이터를 그대로 기록해야 하므로 POI의 OPC 전용 stream 대신 일반 zip stream을 사용한다.
+            // 항목 크기를 미리 알고 있어 zip64 정보는 4GB를 넘는 항목에만 기록된다.
+            // zip stream의 Deflater를 바로 해제하도록 닫되, 호출한 쪽의 stream은 닫지 않는다.
+            try (ZipArchiveOutputStream zos = new ZipArchiveOutputStream(CloseShieldOutputStream.wrap(out));
+                    ZipFile packed = new ZipFile(packedFile.toFile())) {
+                zos.setUseZip64(Zip64Mode.AsNeeded);
+                new ExcelParallelDeflater(this.options).copy(packed, zos);
+                zos.finish();
+            }
+        } finally {
+            Files.deleteIfExists(packedFile);
+        }
+    }
+
+    /**
+     * 시트 데이터 임시 파일을 삭제하고 엑셀 객체를 닫는다.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.dispose();
+        } finally {
+            super.close();
+        }
+    }
+
+}
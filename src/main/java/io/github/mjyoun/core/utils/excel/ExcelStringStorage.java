@@ -0,0 +1,24 @@
+package io.github.mjyoun.core.utils.excel;
+
+/**
+ * 문자열 cell 저장 방법. <br>
+ * inline 문자열은 cell마다 값을 기록하므로 메모리를 사용하지 않지만, 같은 값이 반복될 경우 파일 크기와 압축 시간이 늘어난다. 공유 문자열은 값마다 한번만 저장하고 cell에는
+ * 순번만 기록하는 대신, 저장한 값을 엑셀 생성이 끝날 때까지 메모리에 유지한다. 공유 문자열 개수는 {@link ExcelOptions#getSharedStringLimit()}로 제한하며,
+ * 제한을 넘은 새 값은 inline 문자열로 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public enum ExcelStringStorage {
+
+    /** 모든 문자열을 inline 문자열로 기록한다. */
+    INLINE,
+    /**
+     * {@link io.github.mjyoun.core.utils.excel.annotation.ExcelColumn#lowCardinality()}가 지정된 컬럼만 공유 문자열로 기록하고, 나머지는 inline
+     * 문자열로 기록한다.
+     */
+    COLUMN,
+    /** 모든 문자열을 공유 문자열로 기록한다. 전체 데이터의 값 종류가 적을 때 사용한다. */
+    SHARED;
+
+}
@@ -0,0 +1,192 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * 엑셀 파일 하나에서 공유하는 cell style 목록. <br>
+ * 실제로 사용되는 테두리 조합(첫/중간/마지막 컬럼 x 마지막 row 여부)과 표시 형식만 처음 사용할 때 생성하고, 이후에는 같은 style을 재사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelStylePool {
+
+    /** 첫번째 컬럼 */
+    private static final int FIRST = 0;
+    /** 중간 컬럼 */
+    private static final int MIDDLE = 1;
+    /** 마지막 컬럼 */
+    private static final int LAST = 2;
+
+    /** 엑셀 객체 */
+    private final Workbook workbook;
+    /** 사용자 정의 style 목록. nullable */
+    private final ExcelStyles styles;
+    /** 헤더 style. [컬럼 위치] */
+    private final CellStyle[] headerStyles = new CellStyle[3];
+    /** 데이터 style. [컬럼 위치 * 2 + 마지막 row 여부] */
+    private final CellStyle[] dataStyles = new CellStyle[6];
+    /** 사용자 정의 style, 표시 형식이 적용된 데이터 style. 이름별, 표시 형식별 [컬럼 위치 * 2 + 마지막 row 여부] */
+    private final Map<String, Map<String, CellStyle[]>> namedStyles = new HashMap<>();
+    /** 헤더 font */
+    private Font headerFont;
+    /** 표시 형식 생성 객체 */
+    private DataFormat dataFormat;
+
+    /**
+     * @param workbook
+     *            엑셀 객체
+     * @param styles
+     *            사용자 정의 style 목록. nullable
+     */
+    ExcelStylePool(@NotNull Workbook workbook, ExcelStyles styles) {
+        this.workbook = workbook;
+        this.styles = styles;
+    }
+
+    /**
+     * 헤더 style 조회
+     *
+     * @param columnIndex
+     *            컬럼 순서
+     * @param columnCount
+     *            컬럼 개수
+     * @return 헤더 style
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    CellStyle header(int columnIndex, int columnCount) {
+        int position = position(columnIndex, columnCount);
+        CellStyle style = this.headerStyles[position];
+
+        if (style == null) {
+            style = this.workbook.createCellStyle();
+            style.setBorderTop(BorderStyle.THICK);
+            style.setBorderBottom(BorderStyle.DOUBLE);
+            style.setAlignment(HorizontalAlignment.CENTER);
+            style.setFont(this.headerFont());
+
+            if (position == FIRST) {
+                style.setBorderLeft(BorderStyle.THICK);
+                style.setBorderRight(BorderStyle.THIN);
+            } else if (position == LAST) {
+                style.setBorderLeft(BorderStyle.THIN);
+                style.setBorderRight(BorderStyle.THICK);
+            } else {
+                style.setBorderLeft(BorderStyle.THIN);
+                style.setBorderRight(BorderStyle.THIN);
+            }
+
+            this.headerStyles[position] = style;
+        }
+
+        return style;
+    }
+
+    /**
+     * 데이터 style 조회
+     *
+     * @param columnIndex
+     *            컬럼 순서
+     * @param columnCount
+     *            컬럼 개수
+     * @param lastRow
+     *            마지막 row 여부
+     * @param styleName
+     *            사용자 정의 style 이름. nullable
+     * @param format
+     *            데이터 표시 형식. nullable
+     * @return 데이터 style
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    CellStyle data(int columnIndex, int columnCount, boolean lastRow, String styleName, String format) {
+        CellStyle[] cached = this.dataStyles;
+
+        if (styleName != null || format != null) {
+            cached = this.namedStyles //
+                    .computeIfAbsent(styleName == null ? "" : styleName, name -> new HashMap<>()) //
+                    .computeIfAbsent(format == null ? "" : format, key -> new CellStyle[6]);
+        }
+
+        int position = position(columnIndex, columnCount);
+        int key = position * 2 + (lastRow ? 1 : 0);
+        CellStyle style = cached[key];
+
+        if (style == null) {
+            style = this.workbook.createCellStyle();
+            style.setBorderLeft(position == FIRST ? BorderStyle.THICK : BorderStyle.THIN);
+            style.setBorderTop(BorderStyle.THIN);
+            style.setBorderRight(position == LAST ? BorderStyle.THICK : BorderStyle.THIN);
+            style.setBorderBottom(lastRow ? BorderStyle.THICK : BorderStyle.THIN);
+
+            if (format != null) {
+                if (this.dataFormat == null) {
+                    this.dataFormat = this.workbook.createDataFormat();
+                }
+
+                style.setDataFormat(this.dataFormat.getFormat(format));
+            }
+
+            if (styleName != null) {
+                if (this.styles == null) {
+                    throw new IllegalArgumentException(
+                            MessageFormat.format("사용자 정의 style 목록이 설정되지 않았습니다. [name: {0}]", styleName));
+                }
+
+                this.styles.get(styleName).accept(this.workbook, style);
+            }
+
+            cached[key] = style;
+        }
+
+        return style;
+    }
+
+    /**
+     * 헤더 font 조회. 엑셀 파일마다 한번만 생성한다.
+     *
+     * @return 헤더 font
+     */
+    private Font headerFont() {
+        if (this.headerFont == null) {
+            this.headerFont = this.workbook.createFont();
+            this.headerFont.setBold(true);
+        }
+
+        return this.headerFont;
+    }
+
+    /**
+     * 컬럼 위치 계산
+     *
+     * @param columnIndex
+     *            컬럼 순서
+     * @param columnCount
+     *            컬럼 개수
+     * @return 컬럼 위치
+     */
+    private static int position(int columnIndex, int columnCount) {
+        if (columnIndex == 0) {
+            return FIRST;
+        } else if (columnIndex == columnCount - 1) {
+            return LAST;
+        } else {
+            return MIDDLE;
+        }
+    }
+
+}
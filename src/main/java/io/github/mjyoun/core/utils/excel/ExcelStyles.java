@@ -0,0 +1,71 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import io.github.mjyoun.core.utils.excel.annotation.ExcelColumn;
+
+/**
+ * 사용자 정의 cell style 목록. <br>
+ * 이름으로 등록한 style은 {@link ExcelColumn#style()}로 컬럼에 지정할 수 있으며, 엑셀 파일마다 테두리 조합별로 한번씩만 생성된다.
+ *
+ * <pre>
+ * ExcelStyles styles = new ExcelStyles() //
+ *         .register("money", (workbook, style) -&gt; style.setDataFormat(workbook.createDataFormat().getFormat("#,##0")));
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+public class ExcelStyles {
+
+    /** 이름별 style 설정 함수 */
+    private final Map<String, BiConsumer<Workbook, CellStyle>> customizers = new ConcurrentHashMap<>();
+
+    /**
+     * style 등록
+     *
+     * @param name
+     *            style 이름
+     * @param customizer
+     *            style 설정 함수. 기본 테두리가 적용된 style을 받아 추가 설정을 한다.
+     * @return {@link ExcelStyles}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public ExcelStyles register(@NotNull String name, @NotNull BiConsumer<Workbook, CellStyle> customizer) {
+        this.customizers.put(name, customizer);
+        return this;
+    }
+
+    /**
+     * 등록된 style 설정 함수 조회
+     *
+     * @param name
+     *            style 이름
+     * @return style 설정 함수
+     * @throws IllegalArgumentException
+     *             등록되지 않은 style 이름일 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    BiConsumer<Workbook, CellStyle> get(@NotNull String name) {
+        BiConsumer<Workbook, CellStyle> customizer = this.customizers.get(name);
+
+        if (customizer == null) {
+            throw new IllegalArgumentException(MessageFormat.format("등록되지 않은 style 입니다. [name: {0}]", name));
+        }
+
+        return customizer;
+    }
+
+}
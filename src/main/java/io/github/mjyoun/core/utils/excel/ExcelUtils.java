@@ -3,30 +3,24 @@ package io.github.mjyoun.core.utils.excel;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import jakarta.validation.constraints.NotNull;
 
-import org.apache.poi.ss.usermodel.BorderStyle;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.HorizontalAlignment;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-
-import io.github.mjyoun.core.utils.excel.annotation.ExcelColumn;
-import io.github.mjyoun.core.utils.excel.annotation.ExcelSheet;
 
 /**
  * 엑셀 관련 유틸 정보
@@ -36,6 +30,9 @@ import io.github.mjyoun.core.utils.excel.annotation.ExcelSheet;
  */
 public class ExcelUtils {
 
+    /** 헤더, 데이터로 생성할 때의 기본 시트 이름 */
+    private static final String DEFAULT_SHEET_NAME = "sheet01";
+
     /**
      * 엑셀 파일 생성
      * 
@@ -54,9 +51,194 @@ public class ExcelUtils {
      */
     public static <T> void create(@NotNull List<T> contents, @NotNull Class<T> clazz, @NotNull Path path)
             throws FileNotFoundException, IOException {
-        SXSSFWorkbook workbook = create(contents, clazz);
+        create(contents.iterator(), clazz, path, ExcelOptions.DEFAULT);
+    }
+
+    /**
+     * 엑셀 파일 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다.
+     * 
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param path
+     *            저장할 위치
+     * @throws FileNotFoundException
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Iterable<T> contents, @NotNull Class<T> clazz, @NotNull Path path)
+            throws FileNotFoundException, IOException {
+        create(contents.iterator(), clazz, path);
+    }
+
+    /**
+     * 엑셀 파일 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다. <br>
+     * stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     * 
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param path
+     *            저장할 위치
+     * @throws FileNotFoundException
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Stream<T> contents, @NotNull Class<T> clazz, @NotNull Path path)
+            throws FileNotFoundException, IOException {
+        create(contents.iterator(), clazz, path);
+    }
+
+    /**
+     * 엑셀 파일 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다.
+     * 
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param path
+     *            저장할 위치
+     * @throws FileNotFoundException
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Iterator<T> contents, @NotNull Class<T> clazz, @NotNull Path path)
+            throws FileNotFoundException, IOException {
+        create(contents, clazz, path, ExcelOptions.DEFAULT);
+    }
+
+    /**
+     * 엑셀 파일 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록하고, 완료 후 임시 파일을 삭제한다.
+     * 
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param path
+     *            저장할 위치
+     * @param options
+     *            엑셀 생성 설정
+     * @throws FileNotFoundException
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Iterator<T> contents, @NotNull Class<T> clazz, @NotNull Path path,
+            @NotNull ExcelOptions options) throws FileNotFoundException, IOException {
+        try (FileOutputStream out = new FileOutputStream(path.normalize().toString())) {
+            create(contents, clazz, out, options);
+        }
+    }
+
+    /**
+     * 엑셀 파일을 생성하여 stream에 기록. 데이터를 순회하며 한 row씩 바로 시트에 기록하고, 성공/실패 여부와 관계없이 임시 파일을 삭제한다. <br>
+     * 데이터가 {@link AutoCloseable}일 경우(예: {@link ExcelPagedSource}) 성공/실패 여부와 관계없이 닫는다. stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     * 
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param out
+     *            기록할 stream. 예) HTTP response
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Iterator<T> contents, @NotNull Class<T> clazz, @NotNull OutputStream out,
+            @NotNull ExcelOptions options) throws IOException {
+        export(ExcelSheetData.of(ExcelSheetModel.of(clazz), contents, options), options, out);
+    }
+
+    /**
+     * 엑셀 파일을 생성하여 channel에 기록. 데이터를 순회하며 한 row씩 바로 시트에 기록하고, 성공/실패 여부와 관계없이 임시 파일을 삭제한다. <br>
+     * channel은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     * 
+     * @param <T>
+     *            저장할 class 정보
+     * @param contents
+     *            데이터 정보
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param channel
+     *            기록할 channel
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull Iterator<T> contents, @NotNull Class<T> clazz,
+            @NotNull WritableByteChannel channel, @NotNull ExcelOptions options) throws IOException {
+        create(contents, clazz, Channels.newOutputStream(channel), options);
+    }
+
+    /**
+     * 페이지 단위로 조회하는 데이터로 엑셀 파일 생성. 현재 페이지를 기록하는 동안 다음 페이지를 미리 조회하며, 완료 후 조회를 종료하고 임시 파일을 삭제한다.
+     * 
+     * @param <T>
+     *            저장할 class 정보
+     * @param source
+     *            페이지 조회 데이터
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param path
+     *            저장할 위치
+     * @param options
+     *            엑셀 생성 설정
+     * @throws FileNotFoundException
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull ExcelPagedSource<T> source, @NotNull Class<T> clazz, @NotNull Path path,
+            @NotNull ExcelOptions options) throws FileNotFoundException, IOException {
+        try (FileOutputStream out = new FileOutputStream(path.normalize().toString())) {
+            create(source, clazz, out, options);
+        }
+    }
 
-        workbook.write(new FileOutputStream(path.normalize().toString()));
+    /**
+     * 페이지 단위로 조회하는 데이터로 엑셀 파일을 생성하여 stream에 기록. 현재 페이지를 기록하는 동안 다음 페이지를 미리 조회하며, 성공/실패 여부와 관계없이 조회를
+     * 종료하고 임시 파일을 삭제한다. <br>
+     * stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     * 
+     * @param <T>
+     *            저장할 class 정보
+     * @param source
+     *            페이지 조회 데이터
+     * @param clazz
+     *            저장할 데이터의 클래스 정보
+     * @param out
+     *            기록할 stream. 예) HTTP response
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> void create(@NotNull ExcelPagedSource<T> source, @NotNull Class<T> clazz,
+            @NotNull OutputStream out, @NotNull ExcelOptions options) throws IOException {
+        try (source) {
+            Iterator<T> contents = source;
+            create(contents, clazz, out, options);
+        }
     }
 
     /**
@@ -77,9 +259,9 @@ public class ExcelUtils {
      */
     public static void create(@NotNull String[] headers, @NotNull Object[][] datas, @NotNull String sheetName,
             @NotNull Path path) throws FileNotFoundException, IOException {
-        SXSSFWorkbook workbook = create(headers, datas, sheetName);
-
-        workbook.write(new FileOutputStream(path.normalize().toString()));
+        try (FileOutputStream out = new FileOutputStream(path.normalize().toString())) {
+            create(headers, Arrays.asList(datas).iterator(), sheetName, out, ExcelOptions.DEFAULT);
+        }
     }
 
     /**
@@ -98,9 +280,53 @@ public class ExcelUtils {
      */
     public static void create(@NotNull String[] headers, @NotNull Object[][] datas, @NotNull Path path)
             throws FileNotFoundException, IOException {
-        SXSSFWorkbook workbook = create(headers, datas);
+        create(headers, datas, DEFAULT_SHEET_NAME, path);
+    }
 
-        workbook.write(new FileOutputStream(path.normalize().toString()));
+    /**
+     * 엑셀 파일을 생성하여 stream에 기록. 데이터를 순회하며 한 row씩 바로 시트에 기록하고, 성공/실패 여부와 관계없이 임시 파일을 삭제한다. <br>
+     * stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     * 
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            row 단위 데이터 정보
+     * @param sheetName
+     *            시트 이름
+     * @param out
+     *            기록할 stream. 예) HTTP response
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static void create(@NotNull String[] headers, @NotNull Iterator<Object[]> datas, @NotNull String sheetName,
+            @NotNull OutputStream out, @NotNull ExcelOptions options) throws IOException {
+        export(ExcelSheetData.of(headers, datas, sheetName), options, out);
+    }
+
+    /**
+     * 엑셀 파일을 생성하여 channel에 기록. 데이터를 순회하며 한 row씩 바로 시트에 기록하고, 성공/실패 여부와 관계없이 임시 파일을 삭제한다. <br>
+     * channel은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     * 
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            row 단위 데이터 정보
+     * @param sheetName
+     *            시트 이름
+     * @param channel
+     *            기록할 channel
+     * @param options
+     *            엑셀 생성 설정
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static void create(@NotNull String[] headers, @NotNull Iterator<Object[]> datas, @NotNull String sheetName,
+            @NotNull WritableByteChannel channel, @NotNull ExcelOptions options) throws IOException {
+        create(headers, datas, sheetName, Channels.newOutputStream(channel), options);
     }
 
     /**
@@ -117,78 +343,82 @@ public class ExcelUtils {
      * @since 2024. 02. 07.
      */
     public static <T> SXSSFWorkbook create(@NotNull List<T> contents, @NotNull Class<T> clazz) {
-        // sheet 정보
-        ExcelSheet excelSheet = clazz.getAnnotation(ExcelSheet.class);
-        String sheetName = "sheet1";
+        return create(contents.iterator(), clazz);
+    }
 
-        if (excelSheet != null && excelSheet.value().trim().length() != 0) {
-            sheetName = excelSheet.value();
-        }
+    /**
+     * Class로 부터 데이터 추출하여 엑셀 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다.
+     * 
+     * @param <T>
+     *            추출할 데이터 클래스
+     * @param contents
+     *            데이터
+     * @param clazz
+     *            클래스 정보
+     * @return {@link SXSSFWorkbook}
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> SXSSFWorkbook create(@NotNull Iterable<T> contents, @NotNull Class<T> clazz) {
+        return create(contents.iterator(), clazz);
+    }
 
-        // header 정보 추출
-        Field[] fields = clazz.getDeclaredFields();
-        List<String> headers = new ArrayList<>();
-
-        for (int fieldIndex = 0; fieldIndex < fields.length; fieldIndex++) {
-            Field _field = fields[fieldIndex];
-            ExcelColumn excelInfo = _field.getAnnotation(ExcelColumn.class);
-
-            if (excelInfo != null) {
-                if (!excelInfo.ignore()) {
-                    if (excelInfo.value().trim().length() != 0) {
-                        headers.add(excelInfo.value());
-                    } else {
-                        headers.add(_field.getName());
-                    }
-                }
-            } else {
-                headers.add(_field.getName());
-            }
-        }
+    /**
+     * Class로 부터 데이터 추출하여 엑셀 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다. <br>
+     * stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     * 
+     * @param <T>
+     *            추출할 데이터 클래스
+     * @param contents
+     *            데이터
+     * @param clazz
+     *            클래스 정보
+     * @return {@link SXSSFWorkbook}
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> SXSSFWorkbook create(@NotNull Stream<T> contents, @NotNull Class<T> clazz) {
+        return create(contents.iterator(), clazz);
+    }
 
-        // data 정보 추출
-        Object[][] datas = new Object[contents.size()][headers.size()];
-
-        for (int contentIndex = 0; contentIndex < contents.size(); contentIndex++) {
-            int dataIndex = 0;
-            T content = contents.get(contentIndex);
-
-            for (int fieldIndex = 0; fieldIndex < fields.length; fieldIndex++) {
-                Field _field = fields[fieldIndex];
-                ExcelColumn excelInfo = _field.getAnnotation(ExcelColumn.class);
-
-                if (excelInfo == null || !excelInfo.ignore()) {
-                    boolean accessible = _field.canAccess(content);
-                    _field.setAccessible(true);
-
-                    try {
-                        Object _data = _field.get(content);
-                        String data = null;
-
-                        if (_data == null) {
-                            data = "-";
-                        } else if (_data instanceof LocalDate) {
-                            data = ((LocalDate) _data).format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                        } else if (_data instanceof LocalDateTime) {
-                            data = ((LocalDateTime) _data).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                        } else if (_data instanceof LocalTime) {
-                            data = ((LocalTime) _data).format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-                        } else if (_data instanceof ZonedDateTime) {
-                            data = ((ZonedDateTime) _data).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss Z"));
-                        } else {
-                            data = _data.toString();
-                        }
-
-                        datas[contentIndex][dataIndex++] = data;
-                    } catch (IllegalArgumentException | IllegalAccessException ignore) {
-                    } finally {
-                        _field.setAccessible(accessible);
-                    }
-                }
-            }
-        }
+    /**
+     * Class로 부터 데이터 추출하여 엑셀 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다.
+     * 
+     * @param <T>
+     *            추출할 데이터 클래스
+     * @param contents
+     *            데이터
+     * @param clazz
+     *            클래스 정보
+     * @return {@link SXSSFWorkbook}
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> SXSSFWorkbook create(@NotNull Iterator<T> contents, @NotNull Class<T> clazz) {
+        return create(contents, clazz, ExcelOptions.DEFAULT);
+    }
 
-        return create(headers.toArray(new String[headers.size()]), datas, sheetName);
+    /**
+     * Class로 부터 데이터 추출하여 엑셀 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다.
+     * 
+     * @param <T>
+     *            추출할 데이터 클래스
+     * @param contents
+     *            데이터
+     * @param clazz
+     *            클래스 정보
+     * @param options
+     *            엑셀 생성 설정
+     * @return {@link SXSSFWorkbook}
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> SXSSFWorkbook create(@NotNull Iterator<T> contents, @NotNull Class<T> clazz,
+            @NotNull ExcelOptions options) {
+        // sheet, header 정보. 클래스마다 한번만 생성된다.
+        ExcelSheetModel<T> model = ExcelSheetModel.of(clazz);
+
+        return build(ExcelSheetData.of(model, contents, options), options);
     }
 
     /**
@@ -203,7 +433,7 @@ public class ExcelUtils {
      * @since 2024. 02. 07.
      */
     public static SXSSFWorkbook create(@NotNull String[] headers, @NotNull Object[][] datas) {
-        return create(headers, datas, "sheet01");
+        return create(headers, datas, DEFAULT_SHEET_NAME);
     }
 
     /**
@@ -221,106 +451,206 @@ public class ExcelUtils {
      */
     public static SXSSFWorkbook create(@NotNull String[] headers, @NotNull Object[][] datas,
             @NotNull String sheetName) {
-        // excel 파일 생성
-        SXSSFWorkbook workbook = new SXSSFWorkbook();
-        // new sheet
-        SXSSFSheet sheet = workbook.createSheet(sheetName);
-        // Row Number
-        int rowNum = 0;
-
-        // header 
-        Row headerRow = sheet.createRow(rowNum++);
-        for (int headerIndex = 0; headerIndex < headers.length; headerIndex++) {
-            Cell cell = headerRow.createCell(headerIndex);
-            cell.setCellValue(headers[headerIndex]);
-
-            CellStyle style = workbook.createCellStyle();
-            style.setBorderTop(BorderStyle.THICK);
-            style.setBorderBottom(BorderStyle.DOUBLE);
-            style.setAlignment(HorizontalAlignment.CENTER);
-
-            XSSFFont font = new XSSFFont();
-            font.setBold(true);
-            style.setFont(font);
-
-            if (headerIndex == 0) {
-                style.setBorderLeft(BorderStyle.THICK);
-                style.setBorderRight(BorderStyle.THIN);
-
-            } else if (headerIndex == headers.length - 1) {
-                style.setBorderLeft(BorderStyle.THIN);
-                style.setBorderRight(BorderStyle.THICK);
-            } else {
-                style.setBorderLeft(BorderStyle.THIN);
-                style.setBorderRight(BorderStyle.THIN);
-            }
+        return create(headers, Arrays.asList(datas).iterator(), sheetName);
+    }
+
+    /**
+     * 엑셀 객체 정보 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다.
+     * 
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            row 단위 데이터 정보
+     * @param sheetName
+     *            시트 이름
+     * @return 액셀 객체
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static SXSSFWorkbook create(@NotNull String[] headers, @NotNull Iterator<Object[]> datas,
+            @NotNull String sheetName) {
+        return create(headers, datas, sheetName, ExcelOptions.DEFAULT);
+    }
+
+    /**
+     * 엑셀 객체 정보 생성. 데이터를 순회하며 한 row씩 바로 시트에 기록한다.
+     * 
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            row 단위 데이터 정보
+     * @param sheetName
+     *            시트 이름
+     * @param options
+     *            엑셀 생성 설정
+     * @return 액셀 객체
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static SXSSFWorkbook create(@NotNull String[] headers, @NotNull Iterator<Object[]> datas,
+            @NotNull String sheetName, @NotNull ExcelOptions options) {
+        return build(ExcelSheetData.of(headers, datas, sheetName), options);
+    }
 
-            cell.setCellStyle(style);
+    /**
+     * 엑셀 파일을 읽어서 row마다 객체로 변환. 파일 전체를 불러오지 않고 시트를 순서대로 읽으며, 변환된 객체를 바로 전달한다. <br>
+     * 첫번째 row의 헤더 이름으로 {@link io.github.mjyoun.core.utils.excel.annotation.ExcelColumn} 컬럼을 찾으며, 데이터가 없거나 "-"인
+     * cell은 값을 저장하지 않는다. 클래스에 기본 생성자가 있어야 한다.
+     * 
+     * @param <T>
+     *            변환할 class 정보
+     * @param path
+     *            엑셀 파일 위치
+     * @param clazz
+     *            변환할 데이터의 클래스 정보
+     * @param consumer
+     *            변환된 객체를 전달받을 함수
+     * @return 읽은 객체 개수
+     * @throws IOException
+     *             파일을 읽을 수 없거나, 엑셀 파일 형식이 아닐 경우
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    public static <T> long read(@NotNull Path path, @NotNull Class<T> clazz, @NotNull Consumer<? super T> consumer)
+            throws IOException {
+        return new ExcelWorkbookReader<>(ExcelSheetModel.of(clazz).bindable(), consumer).read(path.normalize());
+    }
+
+    /**
+     * 엑셀 파일을 읽어서 정해진 개수씩 묶어서 전달. 마지막 묶음은 정해진 개수보다 적을 수 있다.
+     * 
+     * @param <T>
+     *            변환할 class 정보
+     * @param path
+     *            엑셀 파일 위치
+     * @param clazz
+     *            변환할 데이터의 클래스 정보
+     * @param batchSize
+     *            한번에 전달할 객체 개수
+     * @param consumer
+     *            객체 목록을 전달받을 함수
+     * @return 읽은 객체 개수
+     * @throws IOException
+     *             파일을 읽을 수 없거나, 엑셀 파일 형식이 아닐 경우
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     * @see #read(Path, Class, Consumer)
+     */
+    public static <T> long read(@NotNull Path path, @NotNull Class<T> clazz, int batchSize,
+            @NotNull Consumer<? super List<T>> consumer) throws IOException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(MessageFormat.format("batch 크기는 1 이상이어야 합니다. [batchSize: {0}]", batchSize));
         }
 
-        // data
-        for (int i = 0; i < datas.length; i++) {
-            Row row = sheet.createRow(rowNum++);
-
-            for (int j = 0; j < datas[i].length; j++) {
-                Cell cell = row.createCell(j);
-
-                // 데이터 타입에 따른 설정
-                Object _data = datas[i][j];
-
-                if (_data instanceof Integer) {
-                    cell.setCellValue((Integer) _data);
-                } else if (_data instanceof Long) {
-                    cell.setCellValue((Long) _data);
-                } else if (_data instanceof Double) {
-                    cell.setCellValue((Double) _data);
-                } else if (_data instanceof Float) {
-                    cell.setCellValue((Float) _data);
-                } else if (_data instanceof Boolean) {
-                    cell.setCellValue((Boolean) _data);
-                } else if (_data instanceof LocalDate) {
-                    LocalDate date = (LocalDate) _data;
-                    cell.setCellValue(date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-                } else if (_data instanceof LocalDateTime) {
-                    LocalDateTime dateTime = (LocalDateTime) _data;
-                    cell.setCellValue(dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-                } else if (_data instanceof LocalTime) {
-                    LocalTime time = (LocalTime) _data;
-                    cell.setCellValue(time.format(DateTimeFormatter.ofPattern("HH:mm:ss")));
-                } else {
-                    if (_data == null || _data.toString().trim().length() == 0) {
-                        cell.setCellValue("-");
-                    } else {
-                        cell.setCellValue(_data.toString());
-                    }
-                }
-
-                CellStyle style = workbook.createCellStyle();
-                style.setBorderLeft(BorderStyle.THIN);
-                style.setBorderTop(BorderStyle.THIN);
-                style.setBorderRight(BorderStyle.THIN);
-                style.setBorderBottom(BorderStyle.THIN);
-
-                if (i == datas.length - 1) {
-                    style.setBorderBottom(BorderStyle.THICK);
-                }
-
-                if (j == 0) {
-                    style.setBorderLeft(BorderStyle.THICK);
-                } else if (j == datas[i].length - 1) {
-                    style.setBorderRight(BorderStyle.THICK);
-                }
-
-                cell.setCellStyle(style);
+        List<T> batch = new ArrayList<>(batchSize);
+        long rowCount = read(path, clazz, content -> {
+            batch.add(content);
+
+            if (batch.size() == batchSize) {
+                consumer.accept(new ArrayList<>(batch));
+                batch.clear();
             }
+        });
+
+        if (!batch.isEmpty()) {
+            consumer.accept(new ArrayList<>(batch));
         }
 
-        // 컬럼 width 자동 조절
-        sheet.trackAllColumnsForAutoSizing();
-        // 필터 적용
-        sheet.setAutoFilter(new CellRangeAddress(0, datas.length, 0, headers.length - 1));
+        return rowCount;
+    }
+
+    /**
+     * stream의 엑셀 데이터를 읽어서 row마다 객체로 변환. 메모리에 불러오지 않도록 임시 파일에 저장한 후 읽으며, 임시 파일은 읽은 후 삭제한다. <br>
+     * stream은 닫지 않으므로, 호출한 쪽에서 닫아야 한다.
+     * 
+     * @param <T>
+     *            변환할 class 정보
+     * @param in
+     *            엑셀 데이터 stream
+     * @param clazz
+     *            변환할 데이터의 클래스 정보
+     * @param consumer
+     *            변환된 객체를 전달받을 함수
+     * @return 읽은 객체 개수
+     * @throws IOException
+     *             데이터를 읽을 수 없거나, 엑셀 파일 형식이 아닐 경우
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     * @see #read(Path, Class, Consumer)
+     */
+    public static <T> long read(@NotNull InputStream in, @NotNull Class<T> clazz,
+            @NotNull Consumer<? super T> consumer) throws IOException {
+        Path tempFile = Files.createTempFile("excel-read", ".xlsx");
+
+        try {
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            return read(tempFile, clazz, consumer);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 엑셀 객체를 생성하고 데이터를 기록. 기록 중 실패할 경우 임시 파일을 삭제한다.
+     * 
+     * @param data
+     *            시트 정보
+     * @param options
+     *            엑셀 생성 설정
+     * @return 엑셀 객체
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static SXSSFWorkbook build(ExcelSheetData data, ExcelOptions options) {
+        ExcelStreamingWorkbook workbook = new ExcelStreamingWorkbook(options);
+
+        try {
+            new ExcelWorkbookWriter(workbook).write(data);
+            workbook.complete();
+        } catch (RuntimeException | Error e) {
+            workbook.fail(e);
+
+            try {
+                workbook.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+
+            throw e;
+        }
 
         return workbook;
     }
 
+    /**
+     * 엑셀 객체를 생성하여 stream에 기록. 성공/실패 여부와 관계없이 임시 파일을 삭제한다.
+     * 
+     * @param data
+     *            시트 정보
+     * @param options
+     *            엑셀 생성 설정
+     * @param out
+     *            기록할 stream
+     * @throws IOException
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static void export(@NotNull ExcelSheetData data, @NotNull ExcelOptions options, @NotNull OutputStream out)
+            throws IOException {
+        try (ExcelStreamingWorkbook workbook = new ExcelStreamingWorkbook(options)) {
+            try {
+                new ExcelWorkbookWriter(workbook).write(data);
+
+                workbook.write(out);
+                out.flush();
+            } catch (IOException | RuntimeException | Error e) {
+                workbook.fail(e);
+                throw e;
+            }
+
+            workbook.complete();
+        }
+    }
+
 }
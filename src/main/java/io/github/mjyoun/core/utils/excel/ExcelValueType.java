@@ -0,0 +1,424 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+/**
+ * 컬럼 데이터 타입별 cell 기록, 읽기 방법. <br>
+ * 컬럼마다 타입을 한번만 결정해 두고, cell을 기록하거나 읽을 때는 instanceof 비교 없이 바로 처리한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+enum ExcelValueType {
+
+    /** 문자열 */
+    STRING(null) {
+
+        @Override
+        void write(Cell cell, Object data) {
+            cell.setCellValue(data.toString());
+        }
+
+        @Override
+        Object read(Object value, Class<?> type) {
+            String text = value instanceof Double ? ExcelValueType.toPlainText((Double) value) : value.toString();
+            return type == char.class || type == Character.class ? Character.valueOf(text.charAt(0)) : text;
+        }
+
+    },
+    /** 숫자. 엑셀의 숫자 cell로 기록. double로 정확히 표현할 수 없는 값은 문자열 cell로 기록 */
+    NUMBER(null) {
+
+        @Override
+        void write(Cell cell, Object data) {
+            Number number = (Number) data;
+
+            if (ExcelValueType.isExactDouble(number)) {
+                cell.setCellValue(number.doubleValue());
+            } else {
+                cell.setCellValue(ExcelValueType.toText(number));
+            }
+        }
+
+        @Override
+        Object read(Object value, Class<?> type) {
+            BigDecimal number = value instanceof Double ? BigDecimal.valueOf((Double) value)
+                    : new BigDecimal(value.toString().trim().replace(",", ""));
+
+            // 정수 타입은 범위를 넘거나 소수점 이하 값이 있을 경우 잘라내지 않고 ArithmeticException을 던진다.
+
+            if (type == int.class || type == Integer.class) {
+                return number.intValueExact();
+            } else if (type == long.class || type == Long.class) {
+                return number.longValueExact();
+            } else if (type == double.class || type == Double.class) {
+                return number.doubleValue();
+            } else if (type == float.class || type == Float.class) {
+                return number.floatValue();
+            } else if (type == short.class || type == Short.class) {
+                return number.shortValueExact();
+            } else if (type == byte.class || type == Byte.class) {
+                return number.byteValueExact();
+            } else if (type == BigInteger.class) {
+                return number.toBigIntegerExact();
+            } else if (type == BigDecimal.class || type == Number.class) {
+                return number;
+            }
+
+            throw new IllegalArgumentException(MessageFormat.format("지원하지 않는 숫자 타입입니다. [type: {0}]", type.getName()));
+        }
+
+    },
+    /** boolean */
+    BOOLEAN(null) {
+
+        @Override
+        void write(Cell cell, Object data) {
+            cell.setCellValue((Boolean) data);
+        }
+
+        @Override
+        Object read(Object value, Class<?> type) {
+            if (value instanceof Boolean) {
+                return value;
+            }
+
+            String text = value instanceof Double ? ExcelValueType.toPlainText((Double) value) : value.toString().trim();
+            return "1".equals(text) || Boolean.parseBoolean(text);
+        }
+
+    },
+    /** {@link LocalDate}. 엑셀의 날짜 cell로 기록 */
+    DATE("yyyy-mm-dd") {
+
+        @Override
+        void write(Cell cell, Object data) {
+            cell.setCellValue((LocalDate) data);
+        }
+
+        @Override
+        Object read(Object value, Class<?> type) {
+            return value instanceof Double ? DateUtil.getLocalDateTime((Double) value).toLocalDate()
+                    : LocalDate.parse(value.toString().trim(), DATE_FORMATTER);
+        }
+
+    },
+    /** {@link LocalDateTime}. 엑셀의 날짜 cell로 기록 */
+    DATE_TIME("yyyy-mm-dd hh:mm:ss") {
+
+        @Override
+        void write(Cell cell, Object data) {
+            cell.setCellValue((LocalDateTime) data);
+        }
+
+        @Override
+        Object read(Object value, Class<?> type) {
+            return value instanceof Double ? DateUtil.getLocalDateTime((Double) value)
+                    : LocalDateTime.parse(value.toString().trim(), DATE_TIME_FORMATTER);
+        }
+
+    },
+    /** {@link LocalTime}. 엑셀의 시간(하루에 대한 비율) cell로 기록 */
+    TIME("hh:mm:ss") {
+
+        @Override
+        void write(Cell cell, Object data) {
+            cell.setCellValue(((LocalTime) data).toNanoOfDay() / NANOS_PER_DAY);
+        }
+
+        @Override
+        Object read(Object value, Class<?> type) {
+            return value instanceof Double ? DateUtil.getLocalDateTime((Double) value).toLocalTime()
+                    : LocalTime.parse(value.toString().trim(), TIME_FORMATTER);
+        }
+
+    },
+    /** {@link ZonedDateTime}. 해당 시간대의 날짜 cell로 기록 */
+    ZONED_DATE_TIME("yyyy-mm-dd hh:mm:ss") {
+
+        @Override
+        void write(Cell cell, Object data) {
+            cell.setCellValue(((ZonedDateTime) data).toLocalDateTime());
+        }
+
+        @Override
+        Object read(Object value, Class<?> type) {
+            // 시간대 정보 없이 기록되므로, 숫자 cell은 시스템 시간대로 읽는다.
+            return value instanceof Double ? DateUtil.getLocalDateTime((Double) value).atZone(ZoneId.systemDefault())
+                    : ZonedDateTime.parse(value.toString().trim(), ZONED_DATE_TIME_FORMATTER);
+        }
+
+    },
+    /** {@link Date}. 엑셀의 날짜 cell로 기록 */
+    LEGACY_DATE("yyyy-mm-dd hh:mm:ss") {
+
+        @Override
+        void write(Cell cell, Object data) {
+            cell.setCellValue((Date) data);
+        }
+
+        @Override
+        Object read(Object value, Class<?> type) {
+            if (value instanceof Double) {
+                return Date.from(DateUtil.getLocalDateTime((Double) value).atZone(ZoneId.systemDefault()).toInstant());
+            }
+
+            String text = value.toString().trim();
+
+            // 문자열로 기록된 경우 Date.toString() 형식이다.
+            if (text.length() == DATE_TIME_PATTERN_LENGTH) {
+                return Date.from(LocalDateTime.parse(text, DATE_TIME_FORMATTER).atZone(ZoneId.systemDefault()).toInstant());
+            }
+
+            return Date.from(ZonedDateTime.parse(text, LEGACY_DATE_FORMATTER).toInstant());
+        }
+
+    },
+    /** 선언된 타입으로 결정할 수 없는 경우. 데이터마다 실제 타입으로 기록 */
+    OBJECT(null) {
+
+        @Override
+        void write(Cell cell, Object data) {
+            RUNTIME_TYPES.get(data.getClass()).write(cell, data);
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Object read(Object value, Class<?> type) {
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, value.toString().trim());
+            } else if (type.isInstance(value)) {
+                return value;
+            }
+
+            throw new IllegalArgumentException(MessageFormat.format("지원하지 않는 컬럼 타입입니다. [type: {0}]", type.getName()));
+        }
+
+    };
+
+    /** 날짜 출력 형식 */
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    /** 날짜 시간 출력 형식 */
+    static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    /** 시간 출력 형식 */
+    static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    /** 시간대 포함 날짜 시간 출력 형식 */
+    static final DateTimeFormatter ZONED_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss Z");
+    /** {@link Date#toString()} 형식 */
+    static final DateTimeFormatter LEGACY_DATE_FORMATTER = DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy",
+            Locale.US);
+    /** 데이터가 없을 경우 출력할 문자열 */
+    static final String EMPTY_TEXT = "-";
+
+    /** 날짜 시간 출력 형식의 문자열 길이 */
+    private static final int DATE_TIME_PATTERN_LENGTH = "yyyy-MM-dd HH:mm:ss".length();
+    /** 하루의 nano second */
+    private static final double NANOS_PER_DAY = 86_400_000_000_000d;
+    /** double로 정확히 표현할 수 있는 최대 정수 (2^53) */
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
+    /** 실제 데이터 클래스별 타입 캐시 */
+    private static final ClassValue<ExcelValueType> RUNTIME_TYPES = new ClassValue<ExcelValueType>() {
+
+        @Override
+        protected ExcelValueType computeValue(Class<?> type) {
+            ExcelValueType valueType = ExcelValueType.find(type);
+            return valueType == null ? STRING : valueType;
+        }
+
+    };
+
+    /** 엑셀 cell 표시 형식. 없을 경우 null */
+    private final String dataFormat;
+
+    ExcelValueType(String dataFormat) {
+        this.dataFormat = dataFormat;
+    }
+
+    /**
+     * @return 엑셀 cell 표시 형식. 없을 경우 null
+     */
+    String getDataFormat() {
+        return this.dataFormat;
+    }
+
+    /**
+     * cell에 데이터 기록
+     *
+     * @param cell
+     *            기록할 cell
+     * @param data
+     *            데이터. not null
+     */
+    abstract void write(Cell cell, Object data);
+
+    /**
+     * 엑셀에서 읽은 cell 데이터를 필드 타입으로 변환
+     *
+     * @param value
+     *            cell 데이터. 문자열, {@link Double}(숫자, 날짜), {@link Boolean} 중 하나이며 not null
+     * @param type
+     *            필드에 선언된 타입
+     * @return 필드 타입으로 변환된 데이터
+     * @throws IllegalArgumentException
+     *             필드 타입으로 변환할 수 없을 경우
+     */
+    abstract Object read(Object value, Class<?> type);
+
+    /**
+     * 선언된 타입으로 컬럼의 데이터 타입 조회
+     *
+     * @param type
+     *            필드 등에 선언된 타입
+     * @return 데이터 타입. 결정할 수 없을 경우 {@link #OBJECT}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static ExcelValueType ofDeclared(@NotNull Class<?> type) {
+        ExcelValueType valueType = ExcelValueType.find(type);
+        return valueType == null ? OBJECT : valueType;
+    }
+
+    /**
+     * 실제 데이터로 데이터 타입 조회
+     *
+     * @param columnType
+     *            컬럼의 데이터 타입
+     * @param data
+     *            데이터. not null
+     * @return 실제 기록할 데이터 타입
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static ExcelValueType resolve(@NotNull ExcelValueType columnType, @NotNull Object data) {
+        return columnType == OBJECT ? RUNTIME_TYPES.get(data.getClass()) : columnType;
+    }
+
+    /**
+     * 데이터를 엑셀에 출력할 문자열로 변환
+     *
+     * @param _data
+     *            컬럼 데이터
+     * @return 출력할 문자열. 데이터가 없을 경우 "-"
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    static String toText(Object _data) {
+        String data = null;
+
+        if (_data == null) {
+            data = EMPTY_TEXT;
+        } else if (_data instanceof LocalDate) {
+            data = ((LocalDate) _data).format(DATE_FORMATTER);
+        } else if (_data instanceof LocalDateTime) {
+            data = ((LocalDateTime) _data).format(DATE_TIME_FORMATTER);
+        } else if (_data instanceof LocalTime) {
+            data = ((LocalTime) _data).format(TIME_FORMATTER);
+        } else if (_data instanceof ZonedDateTime) {
+            data = ((ZonedDateTime) _data).format(ZONED_DATE_TIME_FORMATTER);
+        } else {
+            data = _data.toString();
+        }
+
+        return data;
+    }
+
+    /**
+     * 숫자 cell 데이터를 문자열로 변환. 정수일 경우 소수점 없이 변환한다.
+     *
+     * @param value
+     *            숫자 cell 데이터
+     * @return 문자열
+     */
+    private static String toPlainText(Double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * 숫자를 엑셀의 숫자 cell(double)로 기록해도 값이 바뀌지 않는지 확인
+     *
+     * @param number
+     *            숫자 데이터
+     * @return double로 정확히 표현할 수 있을 경우 true
+     */
+    private static boolean isExactDouble(Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte
+                || number instanceof Double || number instanceof Float) {
+            return true;
+        } else if (number instanceof Long) {
+            long value = number.longValue();
+            return value >= -MAX_EXACT_LONG && value <= MAX_EXACT_LONG;
+        }
+
+        double value = number.doubleValue();
+
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return false;
+        }
+
+        BigDecimal original;
+
+        if (number instanceof BigDecimal) {
+            original = (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            original = new BigDecimal((BigInteger) number);
+        } else {
+            try {
+                original = new BigDecimal(number.toString());
+            } catch (NumberFormatException e) {
+                // 문자열로 비교할 수 없는 숫자 타입은 double 값을 그대로 사용한다.
+                return true;
+            }
+        }
+
+        return BigDecimal.valueOf(value).compareTo(original) == 0;
+    }
+
+    /**
+     * 클래스에 맞는 데이터 타입 조회
+     *
+     * @param type
+     *            클래스 정보
+     * @return 데이터 타입. 없을 경우 null
+     */
+    private static ExcelValueType find(Class<?> type) {
+        if (CharSequence.class.isAssignableFrom(type) || type == char.class) {
+            return STRING;
+        } else if (Number.class.isAssignableFrom(type) || (type.isPrimitive() && type != boolean.class && type != void.class)) {
+            return NUMBER;
+        } else if (type == Boolean.class || type == boolean.class) {
+            return BOOLEAN;
+        } else if (type == LocalDate.class) {
+            return DATE;
+        } else if (type == LocalDateTime.class) {
+            return DATE_TIME;
+        } else if (type == LocalTime.class) {
+            return TIME;
+        } else if (type == ZonedDateTime.class) {
+            return ZONED_DATE_TIME;
+        } else if (Date.class.isAssignableFrom(type)) {
+            return LEGACY_DATE;
+        } else {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * 엑셀 파일을 workbook 객체로 불러오지 않고, 시트 XML을 순서대로 읽어서 객체로 변환하는 객체. <br>
+ * {@link io.github.mjyoun.core.utils.excel.annotation.ExcelSheet}의 시트 이름이 지정되어 있을 경우 해당 시트와 나누어 기록된 시트("이름_순번")만
+ * 읽고, 지정되어 있지 않을 경우 모든 시트를 읽는다. <br>
+ * 공유 문자열 목록은 메모리에 불러오지만, row 데이터는 읽는 중인 row 하나만 유지한다.
+ *
+ * @param <T>
+ *            데이터 클래스
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelWorkbookReader<T> {
+
+    /** 클래스의 엑셀 정보 */
+    private final ExcelSheetModel<T> model;
+    /** 변환된 객체를 전달받을 함수 */
+    private final Consumer<? super T> consumer;
+
+    /**
+     * @param model
+     *            클래스의 엑셀 정보
+     * @param consumer
+     *            변환된 객체를 전달받을 함수
+     * @throws IllegalArgumentException
+     *             엑셀을 읽어서 객체를 만들 수 없는 클래스일 경우
+     */
+    ExcelWorkbookReader(@NotNull ExcelSheetModel<T> model, @NotNull Consumer<? super T> consumer) {
+        model.checkReadable();
+
+        this.model = model;
+        this.consumer = consumer;
+    }
+
+    /**
+     * 엑셀 파일 읽기
+     *
+     * @param path
+     *            엑셀 파일 위치
+     * @return 읽은 객체 개수
+     * @throws IOException
+     *             파일을 읽을 수 없거나, 엑셀 파일 형식이 아닐 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    long read(@NotNull Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchFileException(path.toString());
+        }
+
+        OPCPackage pkg;
+
+        try {
+            pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException(MessageFormat.format("엑셀 파일을 열 수 없습니다. [path: {0}]", path), e);
+        }
+
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            long rowCount = 0;
+
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    String sheetName = sheets.getSheetName();
+
+                    if (this.isTarget(sheetName)) {
+                        rowCount += this.readSheet(sheet, sheetName, sharedStrings);
+                    }
+                }
+            }
+
+            return rowCount;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException(MessageFormat.format("엑셀 파일을 읽을 수 없습니다. [path: {0}]", path), e);
+        } finally {
+            // 읽기 전용으로 열었으므로 저장하지 않고 닫는다.
+            pkg.revert();
+        }
+    }
+
+    /**
+     * 시트 하나 읽기
+     *
+     * @param sheet
+     *            시트 XML
+     * @param sheetName
+     *            시트 이름
+     * @param sharedStrings
+     *            공유 문자열 목록
+     * @return 읽은 객체 개수
+     */
+    private long readSheet(InputStream sheet, String sheetName, ReadOnlySharedStringsTable sharedStrings)
+            throws IOException, SAXException, ParserConfigurationException {
+        ExcelSheetReader<T> handler = new ExcelSheetReader<>(this.model, sharedStrings, sheetName, this.consumer);
+        XMLReader parser = XMLHelper.newXMLReader();
+        parser.setContentHandler(handler);
+        parser.parse(new InputSource(sheet));
+
+        return handler.getRowCount();
+    }
+
+    /**
+     * 읽을 시트인지 확인
+     *
+     * @param sheetName
+     *            시트 이름
+     * @return 읽을 시트일 경우 true
+     */
+    private boolean isTarget(String sheetName) {
+        String targetName = this.model.getSheetName();
+
+        if (ExcelSheetModel.DEFAULT_SHEET_NAME.equals(targetName) || targetName.equals(sheetName)) {
+            return true;
+        }
+
+        // 나누어 기록된 시트. 시트 이름 길이 제한에 맞춰 잘렸을 수 있다.
+        int suffixIndex = sheetName.lastIndexOf('_');
+
+        if (suffixIndex <= 0 || suffixIndex == sheetName.length() - 1) {
+            return false;
+        }
+
+        for (int charIndex = suffixIndex + 1; charIndex < sheetName.length(); charIndex++) {
+            if (!Character.isDigit(sheetName.charAt(charIndex))) {
+                return false;
+            }
+        }
+
+        String baseName = sheetName.substring(0, suffixIndex);
+
+        return targetName.equals(baseName) || (targetName.startsWith(baseName)
+                && sheetName.length() == ExcelWorkbookWriter.MAX_SHEET_NAME_LENGTH);
+    }
+
+}
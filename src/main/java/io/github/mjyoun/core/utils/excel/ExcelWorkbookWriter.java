@@ -0,0 +1,208 @@
+package io.github.mjyoun.core.utils.excel;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 엑셀 객체에 시트 정보를 기록하는 객체. <br>
+ * style은 엑셀 파일 단위로 공유하며, row window 크기만큼 기록할 때마다 임시 파일 용량 제한을 확인한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelWorkbookWriter {
+
+    /** 시트 이름 최대 길이 */
+    static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    /** 엑셀 객체 */
+    private final ExcelStreamingWorkbook workbook;
+    /** 엑셀 생성 설정 */
+    private final ExcelOptions options;
+    /** 엑셀 파일에서 공유하는 style 목록 */
+    private final ExcelStylePool styles;
+
+    /**
+     * @param workbook
+     *            엑셀 객체
+     */
+    ExcelWorkbookWriter(@NotNull ExcelStreamingWorkbook workbook) {
+        this.workbook = workbook;
+        this.options = workbook.getOptions();
+        this.styles = new ExcelStylePool(workbook, this.options.getStyles());
+    }
+
+    /**
+     * 시트 정보 기록. 데이터가 시트의 최대 row 개수를 넘을 경우, 헤더를 반복한 새 시트에 이어서 기록한다.
+     *
+     * @param data
+     *            시트 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    void write(@NotNull ExcelSheetData data) {
+        try {
+            this.writeSheets(data);
+        } finally {
+            data.close();
+        }
+    }
+
+    /**
+     * 시트 정보 기록
+     *
+     * @param data
+     *            시트 정보
+     */
+    private void writeSheets(ExcelSheetData data) {
+        // 데이터 타입별 기록 여부
+        ExcelValueType[] columnTypes = null;
+
+        if (this.options.isTypedCells()) {
+            columnTypes = data.getValueTypes() == null ? new ExcelValueType[0] : data.getValueTypes();
+        }
+
+        boolean[] sharedColumns = this.sharedColumns(data);
+        ExcelExportMetrics metrics = this.workbook.getMetrics();
+        ExtractTimer timer = metrics == null ? null : new ExtractTimer(data.getRows());
+        Iterator<Object[]> rows = timer == null ? data.getRows() : timer;
+        int window = this.options.getRowAccessWindowSize();
+        int maxRowsPerSheet = this.options.getMaxRowsPerSheet();
+        ExcelExportListener listener = this.options.getListener();
+        int sheetIndex = 1;
+        long rowCount = 0;
+
+        do {
+            long sheetStart = metrics == null ? 0 : System.nanoTime();
+            long extractStart = timer == null ? 0 : timer.nanos;
+            long flushStart = metrics == null ? 0 : metrics.getNanos(ExcelExportPhase.FLUSH);
+            ExcelColumnWidths widths = new ExcelColumnWidths(data.getHeaders().length, data.getWidths(), this.options);
+            ExcelSheetWriter writer = new ExcelSheetWriter(this.workbook, this.styles,
+                    sheetName(data.getSheetName(), sheetIndex++), data.getHeaders(), data.getStyleNames(), columnTypes,
+                    widths, sharedColumns);
+
+            int sheetRowCount = 0;
+            long cellCount = 0;
+
+            try {
+                // header
+                writer.writeHeader();
+
+                // data
+                while (rows.hasNext() && sheetRowCount < maxRowsPerSheet) {
+                    Object[] row = rows.next();
+                    sheetRowCount++;
+                    cellCount += row.length;
+                    writer.writeRow(row, !rows.hasNext() || sheetRowCount == maxRowsPerSheet);
+                    listener.onRow(++rowCount);
+
+                    if (rowCount % window == 0) {
+                        this.workbook.checkDiskBudget();
+                    }
+                }
+
+                writer.finish();
+            } finally {
+                // 실패한 경우에도 실패 시점까지 측정한 정보를 남긴다.
+                if (metrics != null) {
+                    // 시트 기록 시간에서 데이터 조회, 임시 파일 기록 시간을 제외한 나머지를 cell 기록 시간으로 계산한다.
+                    long extractNanos = timer.nanos - extractStart;
+                    long flushNanos = metrics.getNanos(ExcelExportPhase.FLUSH) - flushStart;
+                    metrics.add(ExcelExportPhase.EXTRACT, extractNanos);
+                    metrics.add(ExcelExportPhase.WRITE, System.nanoTime() - sheetStart - extractNanos - flushNanos);
+                    metrics.addSheet(sheetRowCount, cellCount);
+                }
+            }
+        } while (rows.hasNext());
+
+        this.workbook.checkDiskBudget();
+    }
+
+    /**
+     * 문자열 저장 방법에 따른 컬럼별 공유 문자열 사용 여부 조회
+     *
+     * @param data
+     *            시트 정보
+     * @return 컬럼별 공유 문자열 사용 여부. 공유 문자열을 사용하지 않을 경우 null
+     */
+    private boolean[] sharedColumns(ExcelSheetData data) {
+        switch (this.options.getStringStorage()) {
+            case SHARED:
+                boolean[] sharedColumns = new boolean[data.getHeaders().length];
+                Arrays.fill(sharedColumns, true);
+                return sharedColumns;
+            case COLUMN:
+                return data.getLowCardinality();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 원본 데이터 조회와 row 변환에 걸린 시간을 측정하는 iterator
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    private static class ExtractTimer implements Iterator<Object[]> {
+
+        /** row 데이터 */
+        private final Iterator<Object[]> rows;
+        /** 누적 소요 시간 (nanosecond) */
+        private long nanos;
+
+        ExtractTimer(Iterator<Object[]> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            long start = System.nanoTime();
+
+            try {
+                return this.rows.hasNext();
+            } finally {
+                this.nanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public Object[] next() {
+            long start = System.nanoTime();
+
+            try {
+                return this.rows.next();
+            } finally {
+                this.nanos += System.nanoTime() - start;
+            }
+        }
+
+    }
+
+    /**
+     * 나누어 기록하는 시트의 이름 생성. 두번째 시트부터 "_순번"을 붙이며, 엑셀의 시트 이름 길이 제한(31자)에 맞춰 자른다.
+     *
+     * @param sheetName
+     *            시트 이름
+     * @param sheetIndex
+     *            시트 순번. 1부터 시작
+     * @return 시트 이름
+     */
+    private static String sheetName(String sheetName, int sheetIndex) {
+        if (sheetIndex == 1) {
+            return sheetName;
+        }
+
+        String suffix = "_" + sheetIndex;
+
+        if (sheetName.length() + suffix.length() > MAX_SHEET_NAME_LENGTH) {
+            sheetName = sheetName.substring(0, MAX_SHEET_NAME_LENGTH - suffix.length());
+        }
+
+        return sheetName + suffix;
+    }
+
+}
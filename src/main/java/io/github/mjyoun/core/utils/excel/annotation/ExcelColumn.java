@@ -6,13 +6,14 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * 엑셀 파일 정보
+ * 엑셀 파일 정보. <br>
+ * 필드, record 컴포넌트, getter(인자가 없는 메소드)에 선언할 수 있으며, getter에 선언할 경우 같은 이름의 필드 대신 getter로 값을 조회한다.
  * 
  * @author MJ Youn
  * @since 2024. 02. 07.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.RECORD_COMPONENT })
 public @interface ExcelColumn {
 
     /**
@@ -35,4 +36,47 @@ public @interface ExcelColumn {
      */
     boolean ignore() default false;
 
+    /**
+     * 데이터 cell에 적용할 사용자 정의 style 이름. {@link io.github.mjyoun.core.utils.excel.ExcelStyles}에 등록된 이름이어야 한다.
+     * 
+     * @return style 이름. 없을 경우 기본 style 적용
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    String style() default "";
+
+    /**
+     * 컬럼 width (글자 수). 0 이하일 경우 {@link io.github.mjyoun.core.utils.excel.ExcelOptions#getColumnWidth()} 설정에 따라 결정한다.
+     * 
+     * @return 컬럼 width
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    int width() default 0;
+
+    /**
+     * 하위 객체 펼침 여부. true일 경우 하위 객체의 컬럼을 "컬럼 이름.하위 컬럼 이름" 헤더로 펼쳐서 기록한다. 하위 객체가 null일 경우 하위 컬럼은 모두 데이터가 없는
+     * 것으로 기록한다.
+     * 
+     * @return 하위 객체 펼침 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    boolean nested() default false;
+
+    /**
+     * 값의 종류가 적은 컬럼 여부. true일 경우 문자열 데이터를 cell마다 기록하지 않고 엑셀 파일의 공유 문자열 목록에 한번만 저장하여, 같은 값이 반복되는 컬럼(상태, 코드,
+     * 부서 이름 등)의 파일 크기와 압축 시간을 줄인다. {@link io.github.mjyoun.core.utils.excel.ExcelOptions#getStringStorage()} 설정에 따라
+     * 적용한다.
+     * 
+     * @return 값의 종류가 적은 컬럼 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 16.
+     */
+    boolean lowCardinality() default false;
+
 }
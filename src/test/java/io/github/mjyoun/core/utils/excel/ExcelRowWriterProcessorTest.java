@@ -0,0 +1,201 @@
+package io.github.mjyoun.core.utils.excel;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * core-processor가 생성한 {@link ExcelRowWriter}와 reflection의 추출 결과 비교. <br>
+ * processor는 별도 module이므로, core-processor의 소스를 직접 컴파일하여 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 16.
+ */
+class ExcelRowWriterProcessorTest {
+
+    /** processor 소스 위치 */
+    private static final Path PROCESSOR_SOURCE = Paths.get("core-processor", "src", "main", "java");
+    /** processor 클래스 이름 */
+    private static final String PROCESSOR = "io.github.mjyoun.core.processor.ExcelRowWriterProcessor";
+
+    @TempDir
+    Path temp;
+    /** 마지막 컴파일 메시지 목록 */
+    private List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+    @Test
+    void generatedWriterMatchesReflection() throws Exception {
+        try (URLClassLoader loader = this.compile("Fields", """
+                package sample;
+
+                import io.github.mjyoun.core.utils.excel.annotation.ExcelColumn;
+                import io.github.mjyoun.core.utils.excel.annotation.ExcelSheet;
+
+                @ExcelSheet("목록")
+                public class Fields {
+                    @ExcelColumn("이름")
+                    public String name = "abc";
+                    int count = 3;
+                    protected boolean active;
+                    Integer empty;
+                    @ExcelColumn(ignore = true)
+                    String ignored = "x";
+                    java.time.LocalDate date = java.time.LocalDate.of(2026, 10, 16);
+
+                    public String getName() {
+                        return name.toUpperCase();
+                    }
+                }
+                """)) {
+            Class<?> clazz = loader.loadClass("sample.Fields");
+
+            loader.loadClass("sample.Fields" + ExcelRowWriter.SUFFIX);
+            assertSameRows(clazz, true);
+        }
+    }
+
+    @Test
+    void privateFieldUsesReflection() throws Exception {
+        try (URLClassLoader loader = this.compile("Private", """
+                package sample;
+
+                import io.github.mjyoun.core.utils.excel.annotation.ExcelSheet;
+
+                @ExcelSheet
+                public class Private {
+                    private String name = "abc";
+                    int count = 3;
+
+                    public String getName() {
+                        return name.toUpperCase();
+                    }
+                }
+                """)) {
+            Class<?> clazz = loader.loadClass("sample.Private");
+
+            assertThrows(ClassNotFoundException.class, () -> loader.loadClass("sample.Private" + ExcelRowWriter.SUFFIX));
+            assertTrue(this.diagnostics.stream().anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE),
+                    "row writer를 생성하지 않은 이유가 출력되지 않았습니다.");
+            assertSameRows(clazz, false);
+            assertArrayEquals(new Object[] { "abc", 3 }, extract(clazz));
+        }
+    }
+
+    /**
+     * 생성된 row writer와 reflection의 컬럼 정보, 추출 결과 비교
+     *
+     * @param clazz
+     *            데이터 클래스
+     * @param generated
+     *            row writer가 생성되었어야 하는지 여부
+     */
+    private static <T> void assertSameRows(Class<T> clazz, boolean generated) throws ReflectiveOperationException {
+        ExcelSheetModel<T> model = ExcelSheetModel.of(clazz);
+        ExcelSheetModel<T> reflected = model.bindable();
+
+        if (generated) {
+            assertNotSame(reflected, model);
+        } else {
+            assertSame(reflected, model);
+        }
+
+        assertArrayEquals(reflected.getHeaders(), model.getHeaders());
+        assertArrayEquals(reflected.getStyleNames(), model.getStyleNames());
+        assertArrayEquals(reflected.getValueTypes(), model.getValueTypes());
+        assertArrayEquals(reflected.getWidths(), model.getWidths());
+        assertArrayEquals(extract(clazz, reflected), extract(clazz, model));
+    }
+
+    /**
+     * 기본 생성자로 생성한 객체의 데이터 추출
+     */
+    private static <T> Object[] extract(Class<T> clazz) throws ReflectiveOperationException {
+        return extract(clazz, ExcelSheetModel.of(clazz));
+    }
+
+    /**
+     * 기본 생성자로 생성한 객체의 데이터 추출
+     */
+    private static <T> Object[] extract(Class<T> clazz, ExcelSheetModel<T> model) throws ReflectiveOperationException {
+        return model.extract(clazz.getDeclaredConstructor().newInstance());
+    }
+
+    /**
+     * processor를 사용하여 sample 패키지의 클래스 하나를 컴파일
+     *
+     * @param className
+     *            클래스 이름
+     * @param source
+     *            소스 코드
+     * @return 컴파일한 클래스를 읽는 class loader
+     */
+    private URLClassLoader compile(String className, String source) throws IOException, URISyntaxException {
+        Path processorClasses = Files.createDirectories(this.temp.resolve("processor"));
+        Path sourceFile = this.temp.resolve("src").resolve("sample").resolve(className + ".java");
+        Path classes = Files.createDirectories(this.temp.resolve("classes"));
+        String coreClasses = Paths.get(ExcelRowWriter.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString();
+
+        List<Path> processorSources;
+
+        try (Stream<Path> files = Files.walk(PROCESSOR_SOURCE)) {
+            processorSources = files.filter(file -> file.toString().endsWith(".java")).collect(Collectors.toList());
+        }
+
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source, StandardCharsets.UTF_8);
+
+        javac(processorSources, "-proc:none", "-d", processorClasses.toString());
+        this.diagnostics = javac(List.of(sourceFile), "-encoding", "UTF-8",
+                "-classpath", coreClasses, "-processorpath", processorClasses.toString(), "-processor", PROCESSOR,
+                "-d", classes.toString());
+
+        return new URLClassLoader(new URL[] { classes.toUri().toURL() }, ExcelRowWriterProcessorTest.class.getClassLoader());
+    }
+
+    /**
+     * 컴파일. 실패할 경우 오류 내용으로 테스트를 실패 처리한다.
+     *
+     * @return 컴파일 메시지 목록
+     */
+    private static List<Diagnostic<? extends JavaFileObject>> javac(List<Path> sources, String... options)
+            throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            boolean compiled = compiler.getTask(null, fileManager, diagnostics, List.of(options), null,
+                    fileManager.getJavaFileObjectsFromPaths(sources)).call();
+
+            assertTrue(compiled, () -> diagnostics.getDiagnostics().toString());
+        }
+
+        return diagnostics.getDiagnostics();
+    }
+
+}